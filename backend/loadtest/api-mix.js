@@ -0,0 +1,55 @@
+// k6 load test for comparing request execution modes.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=200 loadtest/api-mix.js
+//
+// Run it once against an instance started with APP_VIRTUAL_THREADS=false and once with
+// APP_VIRTUAL_THREADS=true (Java 21+), keeping DB_POOL_SIZE the same, and compare
+// http_req_duration percentiles, http_reqs/s and http_req_failed.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = Number(__ENV.VUS || 200);
+
+export const options = {
+  scenarios: {
+    ramp: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: VUS },
+        { duration: '2m', target: VUS },
+        { duration: '15s', target: 0 },
+      ],
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+  const email = `loadtest-${Date.now()}@example.com`;
+  const credentials = JSON.stringify({ email, password: 'loadtest-password-123' });
+  const params = { headers: { 'Content-Type': 'application/json' } };
+  const res = http.post(`${BASE_URL}/api/auth/signup`, credentials, params);
+  check(res, { 'signed up': (r) => r.status === 200 || r.status === 201 });
+  return { token: res.json('token') };
+}
+
+export default function (data) {
+  const params = {
+    headers: { Authorization: `Bearer ${data.token}`, 'Content-Type': 'application/json' },
+  };
+  const roll = Math.random();
+  let res;
+  if (roll < 0.4) {
+    res = http.get(`${BASE_URL}/api/applications?limit=50`, params);
+  } else if (roll < 0.7) {
+    res = http.get(`${BASE_URL}/api/dashboard/summary`, params);
+  } else if (roll < 0.9) {
+    res = http.get(`${BASE_URL}/api/dashboard/activity?days=30`, params);
+  } else {
+    const body = JSON.stringify({ company: `Load ${__VU}`, role: 'Engineer' });
+    res = http.post(`${BASE_URL}/api/applications`, body, params);
+  }
+  check(res, { 'status is 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
@@ -0,0 +1,63 @@
+package com.dev.backend.dto;
+
+import com.dev.backend.model.Application;
+import com.dev.backend.model.Stage;
+import com.dev.backend.model.Task;
+import com.dev.backend.model.TaskStatus;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseMappingBenchmark {
+
+    private Application application;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        application = new Application();
+        application.setId(1L);
+        application.setCompany("Acme");
+        application.setRole("Backend Engineer");
+        application.setJobUrl("https://example.com/jobs/1");
+        application.setLocation("Remote");
+        application.setNotes("Referred by Sam");
+        application.setStage(Stage.APPLIED);
+        application.setLastTouchAt(now);
+        application.setStageChangedAt(now);
+        application.setUserId(UUID.randomUUID());
+        application.setCreatedAt(now);
+        application.setUpdatedAt(now);
+
+        task = new Task();
+        task.setId(1L);
+        task.setApplication(application);
+        task.setTitle("Follow up with recruiter");
+        task.setStatus(TaskStatus.OPEN);
+        task.setDueAt(now.plusDays(2));
+        task.setNotes("Send a short follow-up email");
+        task.setCreatedAt(now);
+        task.setUpdatedAt(now);
+    }
+
+    @Benchmark
+    public ApplicationResponse applicationResponseFrom() {
+        return ApplicationResponse.from(application);
+    }
+
+    @Benchmark
+    public TaskResponse taskResponseFrom() {
+        return TaskResponse.from(task);
+    }
+}
@@ -0,0 +1,32 @@
+package com.dev.backend.metrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+// Run with several threads to compare the striped recorder against a single shared histogram.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class LatencyRecorderBenchmark {
+
+    private final LatencyRecorder recorder = new LatencyRecorder(Runtime.getRuntime().availableProcessors());
+    private final Histogram histogram = new Histogram(1_000, 2_500, 5_000, 10_000, 25_000, 50_000, 100_000);
+
+    @Benchmark
+    public void stripedRecorder() {
+        recorder.record(ThreadLocalRandom.current().nextLong(100, 50_000));
+    }
+
+    @Benchmark
+    public void sharedHistogram() {
+        histogram.record(ThreadLocalRandom.current().nextLong(100, 50_000));
+    }
+}
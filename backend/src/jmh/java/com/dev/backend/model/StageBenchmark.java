@@ -0,0 +1,27 @@
+package com.dev.backend.model;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StageBenchmark {
+
+    private final Stage[] stages = Stage.values();
+
+    @Benchmark
+    public void canTransitionToAllPairs(Blackhole blackhole) {
+        for (Stage from : stages) {
+            for (Stage to : stages) {
+                blackhole.consume(from.canTransitionTo(to));
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.dev.backend.security;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TotpServiceBenchmark {
+
+    private TotpService totpService;
+    private String secret;
+
+    @Setup
+    public void setUp() {
+        totpService = new TotpService("JobTracker");
+        secret = totpService.generateSecret();
+    }
+
+    @Benchmark
+    public boolean verifyCodeFullWindow() {
+        // A wrong code walks every step in the window, which is the worst case.
+        return totpService.verifyCode(secret, "000000");
+    }
+}
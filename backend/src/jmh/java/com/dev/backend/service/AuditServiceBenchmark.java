@@ -0,0 +1,54 @@
+package com.dev.backend.service;
+
+import com.dev.backend.model.Stage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuditServiceBenchmark {
+
+    private AuditService auditService;
+    private Map<String, Object> stageChangedPayload;
+    private Map<String, Object> taskCompletedPayload;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        auditService = new AuditService(null, objectMapper, null, true);
+        String actor = "user:" + UUID.randomUUID();
+        stageChangedPayload = Map.of(
+                "fromStage", Stage.SAVED,
+                "toStage", Stage.APPLIED,
+                "actor", actor
+        );
+        taskCompletedPayload = Map.of(
+                "applicationId", 42L,
+                "completedAt", LocalDateTime.now(),
+                "actor", actor,
+                "title", "Follow up with recruiter"
+        );
+    }
+
+    @Benchmark
+    public String stageChangedToJson() {
+        return auditService.toJson(stageChangedPayload);
+    }
+
+    @Benchmark
+    public String taskCompletedToJson() {
+        return auditService.toJson(taskCompletedPayload);
+    }
+}
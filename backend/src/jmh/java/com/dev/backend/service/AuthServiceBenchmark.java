@@ -0,0 +1,33 @@
+package com.dev.backend.service;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthServiceBenchmark {
+
+    private AuthService authService;
+    private String rawToken;
+
+    @Setup
+    public void setUp() {
+        authService = new AuthService(
+                null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
+                false, true, 24, 30, 30, 200
+        );
+        rawToken = "bGlrZS1hLXJlZnJlc2gtdG9rZW4tb2YtdGhlLXVzdWFsLWxlbmd0aC0wMTIzNDU2Nzg5";
+    }
+
+    @Benchmark
+    public String hashToken() {
+        return authService.hashToken(rawToken);
+    }
+}
@@ -0,0 +1,37 @@
+package com.dev.backend.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RateLimitFilterBenchmark {
+
+    private RateLimitFilter rateLimitFilter;
+
+    @Setup
+    public void setUp() {
+        rateLimitFilter = new RateLimitFilter(
+                new ObjectMapper(), new LocalRateLimitStore(100_000), 1_000_000, 1, 1_000_000, 1);
+    }
+
+    @Benchmark
+    public RateLimitDecision allowSingleKey() {
+        return rateLimitFilter.allow("10.0.0.1:auth", 1_000_000, 1);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public RateLimitDecision allowSingleKeyContended() {
+        return rateLimitFilter.allow("10.0.0.1:auth", 1_000_000, 1);
+    }
+}
@@ -0,0 +1,32 @@
+package com.dev.backend.config;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// The database behind the pool, probed once at startup. Postgres gets its native upserts,
+// RETURNING clauses and catalog lookups; anything else (H2 in tests and local runs) gets the
+// portable forms.
+@Component
+public class DatabaseDialect {
+
+    private final boolean postgres;
+
+    public DatabaseDialect(JdbcTemplate jdbcTemplate) {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        this.postgres = "PostgreSQL".equalsIgnoreCase(product);
+    }
+
+    public boolean isPostgres() {
+        return postgres;
+    }
+
+    // Wraps an UPDATE so that running it as a query yields the updated rows' columns.
+    public String returning(String updateSql, String columns) {
+        if (postgres) {
+            return updateSql + " returning " + columns;
+        }
+        return "select " + columns + " from final table (" + updateSql + ")";
+    }
+}
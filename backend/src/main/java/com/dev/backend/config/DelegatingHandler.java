@@ -0,0 +1,47 @@
+package com.dev.backend.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+// Base for the JDBC proxies handed out by the data source wrappers in this package. Proxies
+// compare by identity and unwrap to the object they wrap; everything else goes to handle.
+abstract class DelegatingHandler implements InvocationHandler {
+
+    final Object target;
+
+    DelegatingHandler(Object target) {
+        this.target = target;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        if ("equals".equals(name) && method.getParameterCount() == 1) {
+            return proxy == args[0];
+        }
+        if ("hashCode".equals(name) && method.getParameterCount() == 0) {
+            return System.identityHashCode(proxy);
+        }
+        if ("unwrap".equals(name) && ((Class<?>) args[0]).isInstance(target)) {
+            return target;
+        }
+        return handle(proxy, method, args);
+    }
+
+    abstract Object handle(Object proxy, Method method, Object[] args) throws Throwable;
+
+    Object forward(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
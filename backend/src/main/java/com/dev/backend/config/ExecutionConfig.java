@@ -0,0 +1,60 @@
+package com.dev.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+public class ExecutionConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionConfig.class);
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    static BeanPostProcessor jdbcConcurrencyLimiter(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+                    return bean;
+                }
+                boolean virtualThreads = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+                if (virtualThreads && Runtime.version().feature() < 21) {
+                    log.warn("spring.threads.virtual.enabled is set but Java {} has no virtual threads; "
+                            + "requests stay on the platform thread pool", Runtime.version().feature());
+                }
+                boolean limit = environment.getProperty("app.jdbc.concurrency-limit.enabled", Boolean.class, virtualThreads);
+                if (!limit) {
+                    return bean;
+                }
+                int maxConcurrency = maximumPoolSize(dataSource);
+                if (maxConcurrency < 1) {
+                    // Hikari only fills in its default pool size when the pool starts.
+                    maxConcurrency = environment.getProperty(
+                            "spring.datasource.hikari.maximum-pool-size", Integer.class, DEFAULT_POOL_SIZE);
+                }
+                long timeoutMillis = environment.getProperty(
+                        "app.jdbc.concurrency-limit.acquire-timeout-millis", Long.class, 30000L);
+                log.info("Limiting JDBC concurrency to {} connections for {}", maxConcurrency, beanName);
+                return new ConcurrencyLimitedDataSource(dataSource, maxConcurrency, timeoutMillis);
+            }
+        };
+    }
+
+    // Other post-processors may already have wrapped the pool.
+    private static int maximumPoolSize(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class)
+                    ? dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize()
+                    : -1;
+        } catch (SQLException ex) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.dev.backend.config;
+
+import com.dev.backend.metrics.RequestQueryStats;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+// Times every statement execution, JPA and JdbcTemplate alike, and adds it to the request's
+// RequestQueryStats. Statements slower than the threshold are logged with their SQL; the log
+// pattern already carries the correlation id, so no SQL logging needs to be switched on.
+public class QueryInstrumentedDataSource extends DelegatingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryInstrumentedDataSource.class);
+    private static final int MAX_LOGGED_SQL_LENGTH = 1000;
+
+    private final long slowQueryNanos;
+
+    public QueryInstrumentedDataSource(DataSource target, long slowQueryMillis) {
+        super(target);
+        this.slowQueryNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryMillis);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return DelegatingHandler.proxy(Connection.class, new ConnectionHandler(super.getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return DelegatingHandler.proxy(Connection.class, new ConnectionHandler(super.getConnection(username, password)));
+    }
+
+    private void recordExecution(String sql, long nanos) {
+        boolean slow = nanos >= slowQueryNanos;
+        RequestQueryStats.recordStatement(nanos, slow);
+        if (slow) {
+            RequestQueryStats stats = RequestQueryStats.current();
+            log.warn("Slow query took {} ms on {}: {}",
+                    TimeUnit.NANOSECONDS.toMillis(nanos),
+                    stats == null ? "background" : stats.endpoint(),
+                    abbreviate(sql));
+        }
+    }
+
+    private static String abbreviate(String sql) {
+        if (sql == null) {
+            return "<batch>";
+        }
+        String collapsed = sql.replaceAll("\\s+", " ").trim();
+        return collapsed.length() <= MAX_LOGGED_SQL_LENGTH
+                ? collapsed
+                : collapsed.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+
+    private final class ConnectionHandler extends DelegatingHandler {
+
+        ConnectionHandler(Connection target) {
+            super(target);
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = forward(method, args);
+            if (result instanceof Statement statement) {
+                // prepareStatement/prepareCall carry their SQL up front; createStatement gets it per execute.
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return DelegatingHandler.proxy(method.getReturnType(), new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    private final class StatementHandler extends DelegatingHandler {
+
+        private final String sql;
+
+        StatementHandler(Statement target, String sql) {
+            super(target);
+            this.sql = sql;
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) {
+                return forward(method, args);
+            }
+            String executed = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+            long started = System.nanoTime();
+            try {
+                return forward(method, args);
+            } finally {
+                recordExecution(executed, System.nanoTime() - started);
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.dev.backend.config;
+
+import com.dev.backend.metrics.RequestQueryStats;
+import jakarta.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@ConditionalOnProperty(name = "app.query-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryMetricsConfig {
+
+    @Bean
+    static BeanPostProcessor queryInstrumentation(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof QueryInstrumentedDataSource) {
+                    return bean;
+                }
+                long slowQueryMillis = environment.getProperty(
+                        "app.query-metrics.slow-query-threshold-millis", Long.class, 200L);
+                return new QueryInstrumentedDataSource(dataSource, slowQueryMillis);
+            }
+        };
+    }
+
+    @Bean
+    SmartInitializingSingleton entityLoadCounter(EntityManagerFactory entityManagerFactory) {
+        return () -> entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, (PostLoadEventListener) event -> RequestQueryStats.recordEntityLoad());
+    }
+}
@@ -1,20 +1,36 @@
 package com.dev.backend.controller;
 
 import com.dev.backend.dto.ApplicationCreateRequest;
+import com.dev.backend.dto.ApplicationDeleteResponse;
+import com.dev.backend.dto.ApplicationImportResponse;
+import com.dev.backend.dto.ApplicationPage;
 import com.dev.backend.dto.ApplicationResponse;
+import com.dev.backend.dto.ApplicationStageBatchRequest;
+import com.dev.backend.dto.ApplicationStageBatchResponse;
 import com.dev.backend.dto.ApplicationStageUpdateRequest;
 import com.dev.backend.dto.ApplicationUpdateRequest;
 import com.dev.backend.dto.StageEventResponse;
 import com.dev.backend.model.Stage;
 import com.dev.backend.security.JwtAuthFilter;
+import com.dev.backend.service.ApplicationImportService;
 import com.dev.backend.service.ApplicationService;
+import com.dev.backend.web.EntityTags;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -22,9 +38,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.validation.annotation.Validated;
@@ -34,15 +50,24 @@ import org.springframework.validation.annotation.Validated;
 @RequestMapping("/api/applications")
 public class ApplicationController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String CSV_MEDIA_TYPE = "text/csv";
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    private static final int DEFAULT_PAGE_SIZE = 50;
+
     private final ApplicationService applicationService;
+    private final ApplicationImportService applicationImportService;
 
-    public ApplicationController(ApplicationService applicationService) {
+    public ApplicationController(
+            ApplicationService applicationService,
+            ApplicationImportService applicationImportService
+    ) {
         this.applicationService = applicationService;
+        this.applicationImportService = applicationImportService;
     }
 
     @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
-    public ApplicationResponse create(
+    public ResponseEntity<ApplicationResponse> create(
             @Valid @RequestBody ApplicationCreateRequest request,
             HttpServletRequest servletRequest
     ) {
@@ -50,21 +75,49 @@ public class ApplicationController {
         if (userId == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
         }
-        return ApplicationResponse.from(applicationService.create(userId, request));
+        return tagged(HttpStatus.CREATED, ApplicationResponse.from(applicationService.create(userId, request)));
+    }
+
+    @PostMapping(path = "/import", consumes = {CSV_MEDIA_TYPE, NDJSON_MEDIA_TYPE})
+    public ApplicationImportResponse importApplications(HttpServletRequest servletRequest) throws IOException {
+        UUID userId = (UUID) servletRequest.getAttribute(JwtAuthFilter.USER_ID_ATTR);
+        if (userId == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
+        }
+        MediaType contentType = MediaType.parseMediaType(servletRequest.getContentType());
+        Charset charset = contentType.getCharset() == null ? StandardCharsets.UTF_8 : contentType.getCharset();
+        Reader body = new InputStreamReader(servletRequest.getInputStream(), charset);
+        if (contentType.isCompatibleWith(MediaType.parseMediaType(CSV_MEDIA_TYPE))) {
+            return applicationImportService.importCsv(userId, body);
+        }
+        return applicationImportService.importNdjson(userId, body);
     }
 
     @GetMapping
-    public List<ApplicationResponse> list(
+    public ResponseEntity<List<ApplicationResponse>> list(
             @RequestParam(name = "stage", required = false) Stage stage,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", required = false) @Min(1) @Max(100) Integer limit,
             HttpServletRequest servletRequest
     ) {
         UUID userId = (UUID) servletRequest.getAttribute(JwtAuthFilter.USER_ID_ATTR);
         if (userId == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
         }
-        return applicationService.list(userId, stage).stream()
+        if (cursor == null && limit == null) {
+            return ResponseEntity.ok(applicationService.list(userId, stage).stream()
+                    .map(ApplicationResponse::from)
+                    .collect(Collectors.toList()));
+        }
+        int size = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        ApplicationPage page = applicationService.listPage(userId, stage, cursor, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems().stream()
                 .map(ApplicationResponse::from)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     @GetMapping("/{id}/stage-events")
@@ -96,8 +149,9 @@ public class ApplicationController {
     }
 
     @PutMapping("/{id}")
-    public ApplicationResponse update(
+    public ResponseEntity<ApplicationResponse> update(
             @PathVariable("id") Long id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody ApplicationUpdateRequest request,
             HttpServletRequest servletRequest
     ) {
@@ -105,12 +159,26 @@ public class ApplicationController {
         if (userId == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
         }
-        return ApplicationResponse.from(applicationService.update(userId, id, request));
+        Long expectedVersion = EntityTags.expectedVersion(ifMatch);
+        return tagged(HttpStatus.OK, ApplicationResponse.from(applicationService.update(userId, id, expectedVersion, request)));
+    }
+
+    @PatchMapping("/stage")
+    public ApplicationStageBatchResponse updateStages(
+            @Valid @RequestBody ApplicationStageBatchRequest request,
+            HttpServletRequest servletRequest
+    ) {
+        UUID userId = (UUID) servletRequest.getAttribute(JwtAuthFilter.USER_ID_ATTR);
+        if (userId == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
+        }
+        return applicationService.transitionStages(userId, request.getIds(), request.getStage());
     }
 
     @PatchMapping("/{id}/stage")
-    public ApplicationResponse updateStage(
+    public ResponseEntity<ApplicationResponse> updateStage(
             @PathVariable("id") Long id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody ApplicationStageUpdateRequest request,
             HttpServletRequest servletRequest
     ) {
@@ -118,12 +186,13 @@ public class ApplicationController {
         if (userId == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
         }
-        return ApplicationResponse.from(applicationService.transitionStage(userId, id, request.getStage()));
+        Long expectedVersion = EntityTags.expectedVersion(ifMatch);
+        return tagged(HttpStatus.OK, ApplicationResponse.from(
+                applicationService.transitionStage(userId, id, expectedVersion, request.getStage())));
     }
 
     @DeleteMapping("/{id}")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void delete(
+    public ApplicationDeleteResponse delete(
             @PathVariable("id") Long id,
             HttpServletRequest servletRequest
     ) {
@@ -131,6 +200,10 @@ public class ApplicationController {
         if (userId == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
         }
-        applicationService.delete(userId, id);
+        return applicationService.delete(userId, id);
+    }
+
+    private static ResponseEntity<ApplicationResponse> tagged(HttpStatus status, ApplicationResponse response) {
+        return ResponseEntity.status(status).eTag(EntityTags.of(response.getVersion())).body(response);
     }
 }
@@ -1,6 +1,7 @@
 package com.dev.backend.controller;
 
 import com.dev.backend.dto.DashboardActivityResponse;
+import com.dev.backend.dto.DashboardBootstrapResponse;
 import com.dev.backend.dto.DashboardNextActionsResponse;
 import com.dev.backend.dto.DashboardSummaryResponse;
 import com.dev.backend.dto.ApplicationResponse;
@@ -10,8 +11,11 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -24,12 +28,35 @@ import org.springframework.web.server.ResponseStatusException;
 @RequestMapping("/api/dashboard")
 public class DashboardController {
 
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
     private final DashboardService dashboardService;
 
     public DashboardController(DashboardService dashboardService) {
         this.dashboardService = dashboardService;
     }
 
+    @GetMapping("/bootstrap")
+    public ResponseEntity<DashboardBootstrapResponse> bootstrap(
+            @RequestParam(name = "staleDays", defaultValue = "30") @Min(1) @Max(365) int staleDays,
+            @RequestParam(name = "nextActionDays", defaultValue = "7") @Min(1) @Max(90) int nextActionDays,
+            @RequestParam(name = "activityDays", defaultValue = "7") @Min(1) @Max(90) int activityDays,
+            HttpServletRequest servletRequest
+    ) {
+        UUID userId = (UUID) servletRequest.getAttribute(JwtAuthFilter.USER_ID_ATTR);
+        if (userId == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
+        }
+        DashboardService.Bootstrap bootstrap =
+                dashboardService.bootstrap(userId, staleDays, nextActionDays, activityDays);
+        String serverTiming = bootstrap.sectionNanos().entrySet().stream()
+                .map(entry -> String.format(Locale.ROOT, "%s;dur=%.1f", entry.getKey(), entry.getValue() / 1_000_000.0))
+                .collect(Collectors.joining(", "));
+        return ResponseEntity.ok()
+                .header(SERVER_TIMING_HEADER, serverTiming)
+                .body(bootstrap.response());
+    }
+
     @GetMapping("/summary")
     public DashboardSummaryResponse summary(HttpServletRequest servletRequest) {
         UUID userId = (UUID) servletRequest.getAttribute(JwtAuthFilter.USER_ID_ATTR);
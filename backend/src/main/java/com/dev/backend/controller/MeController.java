@@ -35,7 +35,7 @@ public class MeController {
             HttpServletRequest request
     ) {
         UUID userId = (UUID) request.getAttribute(JwtAuthFilter.USER_ID_ATTR);
-        authService.deleteAccount(userId, deleteAccountRequest.getPassword());
-        return ResponseEntity.noContent().build();
+        boolean deferred = authService.deleteAccount(userId, deleteAccountRequest.getPassword());
+        return deferred ? ResponseEntity.accepted().build() : ResponseEntity.noContent().build();
     }
 }
@@ -1,12 +1,15 @@
 package com.dev.backend.controller;
 
-import com.dev.backend.dto.MetricsResponse;
-import com.dev.backend.repository.ApplicationRepository;
-import com.dev.backend.repository.AuditEventRepository;
-import com.dev.backend.repository.StageEventRepository;
-import com.dev.backend.repository.TaskRepository;
-import com.dev.backend.repository.UserRepository;
-import java.time.OffsetDateTime;
+import com.dev.backend.dto.EndpointQueryMetricsResponse;
+import com.dev.backend.dto.LatencyReportResponse;
+import com.dev.backend.dto.RouteLatencyResponse;
+import com.dev.backend.metrics.MetricsRegistry;
+import com.dev.backend.web.QueryMetricsFilter;
+import com.dev.backend.web.RequestLatencyFilter;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -15,35 +18,41 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/metrics")
 public class MetricsController {
 
-    private final UserRepository userRepository;
-    private final ApplicationRepository applicationRepository;
-    private final TaskRepository taskRepository;
-    private final StageEventRepository stageEventRepository;
-    private final AuditEventRepository auditEventRepository;
+    private final MetricsRegistry metricsRegistry;
+    private final QueryMetricsFilter queryMetricsFilter;
+    private final RequestLatencyFilter requestLatencyFilter;
 
     public MetricsController(
-            UserRepository userRepository,
-            ApplicationRepository applicationRepository,
-            TaskRepository taskRepository,
-            StageEventRepository stageEventRepository,
-            AuditEventRepository auditEventRepository
+            MetricsRegistry metricsRegistry,
+            QueryMetricsFilter queryMetricsFilter,
+            RequestLatencyFilter requestLatencyFilter
     ) {
-        this.userRepository = userRepository;
-        this.applicationRepository = applicationRepository;
-        this.taskRepository = taskRepository;
-        this.stageEventRepository = stageEventRepository;
-        this.auditEventRepository = auditEventRepository;
+        this.metricsRegistry = metricsRegistry;
+        this.queryMetricsFilter = queryMetricsFilter;
+        this.requestLatencyFilter = requestLatencyFilter;
     }
 
+    // Prometheus scrape target. Reads in-process counters only, so polling it puts no load on the database.
     @GetMapping
-    public MetricsResponse metrics() {
-        return new MetricsResponse(
-                OffsetDateTime.now(),
-                userRepository.count(),
-                applicationRepository.count(),
-                taskRepository.count(),
-                stageEventRepository.count(),
-                auditEventRepository.count()
-        );
+    public ResponseEntity<String> metrics() {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, MetricsRegistry.CONTENT_TYPE)
+                .body(metricsRegistry.scrape());
+    }
+
+    @GetMapping("/queries")
+    public List<EndpointQueryMetricsResponse> queries() {
+        return queryMetricsFilter.snapshot().entrySet().stream()
+                .map(entry -> EndpointQueryMetricsResponse.from(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    @GetMapping("/latency")
+    public LatencyReportResponse latency() {
+        List<RouteLatencyResponse> routes = requestLatencyFilter.lastInterval().entrySet().stream()
+                .filter(entry -> entry.getValue().count() > 0)
+                .map(entry -> RouteLatencyResponse.from(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+        return new LatencyReportResponse(requestLatencyFilter.intervalStart(), requestLatencyFilter.intervalEnd(), routes);
     }
 }
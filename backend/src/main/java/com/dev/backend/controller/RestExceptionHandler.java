@@ -7,9 +7,11 @@ import jakarta.validation.ConstraintViolationException;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
@@ -68,6 +70,18 @@ public class RestExceptionHandler {
         return build(status, "request_failed", message, request, List.of());
     }
 
+    // A versioned entity write lost a race. Requests that named a version get the If-Match answer.
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLock(
+            ObjectOptimisticLockingFailureException ex,
+            HttpServletRequest request
+    ) {
+        if (request.getHeader(HttpHeaders.IF_MATCH) != null) {
+            return build(HttpStatus.PRECONDITION_FAILED, "request_failed", "Resource was modified", request, List.of());
+        }
+        return build(HttpStatus.CONFLICT, "request_failed", "Resource changed concurrently", request, List.of());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleUnhandled(Exception ex, HttpServletRequest request) {
         return build(HttpStatus.INTERNAL_SERVER_ERROR, "server_error", "Unexpected error", request, List.of());
@@ -6,18 +6,21 @@ import com.dev.backend.dto.TaskStatusUpdateRequest;
 import com.dev.backend.dto.TaskUpdateRequest;
 import com.dev.backend.security.JwtAuthFilter;
 import com.dev.backend.service.TaskService;
+import com.dev.backend.web.EntityTags;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -35,8 +38,7 @@ public class TaskController {
     }
 
     @PostMapping("/applications/{applicationId}/tasks")
-    @ResponseStatus(HttpStatus.CREATED)
-    public TaskResponse create(
+    public ResponseEntity<TaskResponse> create(
             @PathVariable("applicationId") Long applicationId,
             @Valid @RequestBody TaskCreateRequest request,
             HttpServletRequest servletRequest
@@ -45,7 +47,7 @@ public class TaskController {
         if (userId == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
         }
-        return TaskResponse.from(taskService.create(userId, applicationId, request));
+        return tagged(HttpStatus.CREATED, TaskResponse.from(taskService.create(userId, applicationId, request)));
     }
 
     @GetMapping("/applications/{applicationId}/tasks")
@@ -57,14 +59,13 @@ public class TaskController {
         if (userId == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
         }
-        return taskService.listForApplication(userId, applicationId).stream()
-                .map(TaskResponse::from)
-                .collect(Collectors.toList());
+        return taskService.listForApplication(userId, applicationId);
     }
 
     @PatchMapping("/tasks/{id}/status")
-    public TaskResponse updateStatus(
+    public ResponseEntity<TaskResponse> updateStatus(
             @PathVariable("id") Long id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TaskStatusUpdateRequest request,
             HttpServletRequest servletRequest
     ) {
@@ -72,12 +73,15 @@ public class TaskController {
         if (userId == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
         }
-        return TaskResponse.from(taskService.updateStatus(userId, id, request.getStatus()));
+        Long expectedVersion = EntityTags.expectedVersion(ifMatch);
+        return tagged(HttpStatus.OK, TaskResponse.from(
+                taskService.updateStatus(userId, id, expectedVersion, request.getStatus())));
     }
 
     @PutMapping("/tasks/{id}")
-    public TaskResponse update(
+    public ResponseEntity<TaskResponse> update(
             @PathVariable("id") Long id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TaskUpdateRequest request,
             HttpServletRequest servletRequest
     ) {
@@ -85,7 +89,8 @@ public class TaskController {
         if (userId == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
         }
-        return TaskResponse.from(taskService.update(userId, id, request));
+        Long expectedVersion = EntityTags.expectedVersion(ifMatch);
+        return tagged(HttpStatus.OK, TaskResponse.from(taskService.update(userId, id, expectedVersion, request)));
     }
 
     @DeleteMapping("/tasks/{id}")
@@ -107,9 +112,7 @@ public class TaskController {
         if (userId == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
         }
-        return taskService.listDueToday(userId).stream()
-                .map(TaskResponse::from)
-                .collect(Collectors.toList());
+        return taskService.listDueToday(userId);
     }
 
     @GetMapping("/tasks/due/week")
@@ -118,9 +121,7 @@ public class TaskController {
         if (userId == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
         }
-        return taskService.listDueThisWeek(userId).stream()
-                .map(TaskResponse::from)
-                .collect(Collectors.toList());
+        return taskService.listDueThisWeek(userId);
     }
 
     @GetMapping("/tasks/overdue")
@@ -129,8 +130,10 @@ public class TaskController {
         if (userId == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
         }
-        return taskService.listOverdue(userId).stream()
-                .map(TaskResponse::from)
-                .collect(Collectors.toList());
+        return taskService.listOverdue(userId);
+    }
+
+    private static ResponseEntity<TaskResponse> tagged(HttpStatus status, TaskResponse response) {
+        return ResponseEntity.status(status).eTag(EntityTags.of(response.getVersion())).body(response);
     }
 }
@@ -0,0 +1,12 @@
+package com.dev.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ApplicationDeleteResponse {
+    private Long applicationId;
+    private int tasksDeleted;
+    private int stageEventsDeleted;
+}
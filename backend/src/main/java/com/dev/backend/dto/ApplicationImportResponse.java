@@ -0,0 +1,16 @@
+package com.dev.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationImportResponse {
+    private int received;
+    private int imported;
+    private int rejected;
+    private List<ApplicationImportRowResult> rows;
+}
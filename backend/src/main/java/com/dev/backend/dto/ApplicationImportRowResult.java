@@ -0,0 +1,16 @@
+package com.dev.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationImportRowResult {
+    private long row;
+    private String status;
+    private Long id;
+    private List<ErrorDetail> errors;
+}
@@ -0,0 +1,13 @@
+package com.dev.backend.dto;
+
+import com.dev.backend.model.Application;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ApplicationPage {
+    private List<Application> items;
+    private String nextCursor;
+}
@@ -20,6 +20,7 @@ public class ApplicationResponse {
     private LocalDateTime stageChangedAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     public static ApplicationResponse from(Application application) {
         return new ApplicationResponse(
@@ -33,7 +34,8 @@ public class ApplicationResponse {
                 application.getLastTouchAt(),
                 application.getStageChangedAt(),
                 application.getCreatedAt(),
-                application.getUpdatedAt()
+                application.getUpdatedAt(),
+                application.getVersion()
         );
     }
 }
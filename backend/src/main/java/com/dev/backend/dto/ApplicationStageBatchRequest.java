@@ -0,0 +1,18 @@
+package com.dev.backend.dto;
+
+import com.dev.backend.model.Stage;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class ApplicationStageBatchRequest {
+    @NotEmpty
+    @Size(max = 500)
+    private List<@NotNull Long> ids;
+
+    @NotNull
+    private Stage stage;
+}
@@ -0,0 +1,17 @@
+package com.dev.backend.dto;
+
+import com.dev.backend.model.Stage;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationStageBatchResponse {
+    private Stage stage;
+    private int updated;
+    private int rejected;
+    private List<ApplicationStageBatchResult> results;
+}
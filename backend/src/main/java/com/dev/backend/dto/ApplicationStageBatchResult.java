@@ -0,0 +1,15 @@
+package com.dev.backend.dto;
+
+import com.dev.backend.model.Stage;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationStageBatchResult {
+    private Long id;
+    private String status;
+    private Stage fromStage;
+}
@@ -0,0 +1,14 @@
+package com.dev.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class DashboardBootstrapResponse {
+    private DashboardSummaryResponse summary;
+    private DashboardNextActionsResponse nextActions;
+    private List<ApplicationResponse> staleApplications;
+    private DashboardActivityResponse activity;
+}
@@ -0,0 +1,27 @@
+package com.dev.backend.dto;
+
+import com.dev.backend.web.QueryMetricsFilter;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class EndpointQueryMetricsResponse {
+    private String endpoint;
+    private long requests;
+    private long slowQueries;
+    private HistogramResponse statements;
+    private HistogramResponse dbTimeMillis;
+    private HistogramResponse entityLoads;
+
+    public static EndpointQueryMetricsResponse from(String endpoint, QueryMetricsFilter.EndpointQueryMetrics metrics) {
+        return new EndpointQueryMetricsResponse(
+                endpoint,
+                metrics.requests(),
+                metrics.slowQueries(),
+                HistogramResponse.from(metrics.statements()),
+                HistogramResponse.from(metrics.dbMillis()),
+                HistogramResponse.from(metrics.entityLoads())
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package com.dev.backend.dto;
+
+import com.dev.backend.metrics.Histogram;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class HistogramResponse {
+    private long count;
+    private long sum;
+    private long max;
+    private Map<String, Long> buckets;
+
+    public static HistogramResponse from(Histogram.Snapshot snapshot) {
+        Map<String, Long> buckets = new LinkedHashMap<>();
+        long[] upperBounds = snapshot.upperBounds();
+        for (int i = 0; i < upperBounds.length; i++) {
+            buckets.put(String.valueOf(upperBounds[i]), snapshot.cumulativeCounts()[i]);
+        }
+        buckets.put("+Inf", snapshot.count());
+        return new HistogramResponse(snapshot.count(), snapshot.sum(), snapshot.max(), buckets);
+    }
+}
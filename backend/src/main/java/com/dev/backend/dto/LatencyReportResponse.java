@@ -0,0 +1,14 @@
+package com.dev.backend.dto;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class LatencyReportResponse {
+    private Instant intervalStart;
+    private Instant intervalEnd;
+    private List<RouteLatencyResponse> routes;
+}
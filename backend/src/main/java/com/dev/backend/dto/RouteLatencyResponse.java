@@ -0,0 +1,27 @@
+package com.dev.backend.dto;
+
+import com.dev.backend.metrics.LatencyRecorder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class RouteLatencyResponse {
+    private String route;
+    private long count;
+    private double p50Millis;
+    private double p95Millis;
+    private double p99Millis;
+    private double maxMillis;
+
+    public static RouteLatencyResponse from(String route, LatencyRecorder.Counts interval) {
+        return new RouteLatencyResponse(
+                route,
+                interval.count(),
+                interval.percentile(50) / 1000.0,
+                interval.percentile(95) / 1000.0,
+                interval.percentile(99) / 1000.0,
+                interval.max() / 1000.0
+        );
+    }
+}
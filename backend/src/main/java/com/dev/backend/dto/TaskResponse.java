@@ -19,6 +19,7 @@ public class TaskResponse {
     private LocalDateTime completedAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     public static TaskResponse from(Task task) {
         return new TaskResponse(
@@ -31,7 +32,8 @@ public class TaskResponse {
                 task.getNotes(),
                 task.getCompletedAt(),
                 task.getCreatedAt(),
-                task.getUpdatedAt()
+                task.getUpdatedAt(),
+                task.getVersion()
         );
     }
 }
@@ -0,0 +1,172 @@
+package com.dev.backend.metrics;
+
+import com.dev.backend.config.ConcurrencyLimitedDataSource;
+import com.dev.backend.service.AccountPurgeJob;
+import com.dev.backend.service.AuditEventWriter;
+import com.dev.backend.service.DashboardCache;
+import com.dev.backend.service.RetentionPurgeJob;
+import com.dev.backend.web.QueryMetricsFilter;
+import com.dev.backend.web.RateLimitFilter;
+import com.dev.backend.web.RequestLatencyFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import javax.sql.DataSource;
+import org.springframework.stereotype.Component;
+
+// Binds the counters kept by the filters, caches, writers and the connection pool into the
+// registry. Everything is read at scrape time.
+@Component
+public class ApplicationMetrics {
+
+    private static final double MICROS_TO_SECONDS = 1e-6;
+    private static final double MILLIS_TO_SECONDS = 1e-3;
+
+    private final DataSource dataSource;
+
+    public ApplicationMetrics(
+            MetricsRegistry registry,
+            DataSource dataSource,
+            RequestLatencyFilter requestLatencyFilter,
+            QueryMetricsFilter queryMetricsFilter,
+            RateLimitFilter rateLimitFilter,
+            AuditEventWriter auditEventWriter,
+            DashboardCache dashboardCache,
+            TableRowEstimates tableRowEstimates,
+            RetentionPurgeJob retentionPurgeJob,
+            AccountPurgeJob accountPurgeJob
+    ) {
+        this.dataSource = dataSource;
+
+        registry.histograms("http_server_request_duration_seconds", "Request latency by route.",
+                MICROS_TO_SECONDS, () -> byRoute(requestLatencyFilter.snapshot()));
+        registry.histograms("http_server_request_db_statements", "JDBC statements executed per request.",
+                1, () -> byRoute(queryMetricsFilter.snapshot(), QueryMetricsFilter.EndpointQueryMetrics::statements));
+        registry.histograms("http_server_request_db_duration_seconds", "Time spent in JDBC per request.",
+                MILLIS_TO_SECONDS, () -> byRoute(queryMetricsFilter.snapshot(), QueryMetricsFilter.EndpointQueryMetrics::dbMillis));
+        registry.histograms("http_server_request_entity_loads", "JPA entities loaded per request.",
+                1, () -> byRoute(queryMetricsFilter.snapshot(), QueryMetricsFilter.EndpointQueryMetrics::entityLoads));
+
+        registry.gauge("hikaricp_connections_active", "Connections in use.",
+                () -> pool(HikariPoolMXBean::getActiveConnections));
+        registry.gauge("hikaricp_connections_idle", "Idle connections.",
+                () -> pool(HikariPoolMXBean::getIdleConnections));
+        registry.gauge("hikaricp_connections", "Open connections.",
+                () -> pool(HikariPoolMXBean::getTotalConnections));
+        registry.gauge("hikaricp_connections_pending", "Threads waiting for a connection.",
+                () -> pool(HikariPoolMXBean::getThreadsAwaitingConnection));
+        registry.gauge("hikaricp_connections_max", "Maximum pool size.", () -> {
+            HikariDataSource hikari = unwrap(HikariDataSource.class);
+            return hikari == null ? 0 : hikari.getMaximumPoolSize();
+        });
+        registry.gauge("jdbc_gate_waiting", "Threads queued on the JDBC concurrency gate.", () -> {
+            ConcurrencyLimitedDataSource gate = unwrap(ConcurrencyLimitedDataSource.class);
+            return gate == null ? 0 : gate.waiting();
+        });
+
+        registry.counter("rate_limit_rejections_total", "Requests rejected by the rate limiter.",
+                rateLimitFilter::rejectedCount);
+        registry.gauge("rate_limit_buckets", "Rate limit keys tracked by this instance.",
+                rateLimitFilter::bucketCount);
+        registry.counter("rate_limit_evictions_total", "Idle rate limit buckets evicted.",
+                rateLimitFilter::evictedCount);
+        registry.counter("rate_limit_overflows_total", "Requests let through unlimited because every bucket was in use.",
+                rateLimitFilter::overflowCount);
+
+        registry.gauge("audit_queue_depth", "Audit events waiting to be written.",
+                auditEventWriter::queueDepth);
+        registry.counter("audit_events_written_total", "Audit events written.",
+                auditEventWriter::writtenCount);
+        registry.counter("audit_events_dropped_total", "Audit events dropped because the queue was full.",
+                auditEventWriter::droppedCount);
+        registry.counter("audit_events_failed_total", "Audit events that failed to write.",
+                auditEventWriter::failedCount);
+        registry.counter("audit_events_discarded_total", "Audit events discarded because their account was deleted.",
+                auditEventWriter::discardedCount);
+
+        registry.gauge("dashboard_cache_size", "Cached dashboard sections.", dashboardCache::size);
+        registry.counter("dashboard_cache_hits_total", "Dashboard cache hits.",
+                () -> dashboardCache.stats().hitCount());
+        registry.counter("dashboard_cache_misses_total", "Dashboard cache misses.",
+                () -> dashboardCache.stats().missCount());
+        registry.counter("dashboard_cache_evictions_total", "Dashboard cache evictions.",
+                () -> dashboardCache.stats().evictionCount());
+
+        registry.gauges("db_table_rows_estimate", "Approximate table row counts, refreshed on a schedule.",
+                () -> tableRowEstimates.estimates().entrySet().stream()
+                        .map(entry -> new MetricsRegistry.Sample(Map.of("table", entry.getKey()), entry.getValue()))
+                        .toList());
+
+        registry.counter("purge_runs_total", "Retention purge runs on this instance.",
+                retentionPurgeJob::runCount);
+        registry.counter("purge_runs_skipped_total", "Retention purge runs skipped because another node held the lock.",
+                retentionPurgeJob::skippedCount);
+        registry.gauge("purge_last_run_duration_seconds", "Duration of the last retention purge run.",
+                () -> retentionPurgeJob.lastRunMillis() * MILLIS_TO_SECONDS);
+        registry.counters("purge_rows_deleted_total", "Rows deleted by the retention purge.",
+                () -> byTable(retentionPurgeJob, RetentionPurgeJob.TableStats::deletedCount));
+        registry.counters("purge_batches_total", "Delete batches run by the retention purge.",
+                () -> byTable(retentionPurgeJob, RetentionPurgeJob.TableStats::batchCount));
+        registry.counters("purge_failures_total", "Retention purge passes that failed.",
+                () -> byTable(retentionPurgeJob, RetentionPurgeJob.TableStats::failedCount));
+        registry.gauges("purge_last_success_timestamp_seconds", "When each table was last purged to completion.",
+                () -> byTable(retentionPurgeJob, stats -> stats.lastSuccessEpochMillis() * MILLIS_TO_SECONDS));
+
+        registry.gauge("account_purge_queued", "Deleted accounts waiting for their data to be purged.",
+                accountPurgeJob::queuedCount);
+        registry.counter("account_purges_total", "Deleted accounts purged in the background.",
+                accountPurgeJob::purgedCount);
+        registry.counter("account_purge_failures_total", "Background account purges that failed and will be retried.",
+                accountPurgeJob::failedCount);
+    }
+
+    private int pool(ToIntFunction<HikariPoolMXBean> reader) {
+        HikariDataSource hikari = unwrap(HikariDataSource.class);
+        // The pool bean only exists once the first connection has been requested.
+        HikariPoolMXBean pool = hikari == null ? null : hikari.getHikariPoolMXBean();
+        return pool == null ? 0 : reader.applyAsInt(pool);
+    }
+
+    private <T> T unwrap(Class<T> type) {
+        try {
+            return dataSource.isWrapperFor(type) ? dataSource.unwrap(type) : null;
+        } catch (SQLException ex) {
+            return null;
+        }
+    }
+
+    private static List<MetricsRegistry.Sample> byTable(
+            RetentionPurgeJob job,
+            Function<RetentionPurgeJob.TableStats, Number> value
+    ) {
+        return job.tableStats().entrySet().stream()
+                .map(entry -> new MetricsRegistry.Sample(Map.of("table", entry.getKey()), value.apply(entry.getValue())))
+                .toList();
+    }
+
+    private static List<MetricsRegistry.HistogramSample> byRoute(Map<String, Histogram.Snapshot> routes) {
+        return routes.entrySet().stream()
+                .map(entry -> new MetricsRegistry.HistogramSample(routeLabels(entry.getKey()), entry.getValue()))
+                .toList();
+    }
+
+    private static <T> List<MetricsRegistry.HistogramSample> byRoute(
+            Map<String, T> routes,
+            Function<T, Histogram.Snapshot> histogram
+    ) {
+        return routes.entrySet().stream()
+                .map(entry -> new MetricsRegistry.HistogramSample(
+                        routeLabels(entry.getKey()), histogram.apply(entry.getValue())))
+                .toList();
+    }
+
+    // Route keys are "METHOD /templated/path".
+    private static Map<String, String> routeLabels(String route) {
+        int space = route.indexOf(' ');
+        return Map.of("method", route.substring(0, space), "route", route.substring(space + 1));
+    }
+}
@@ -0,0 +1,49 @@
+package com.dev.backend.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Fixed-bucket histogram in the Prometheus style: each bucket counts observations less than or
+// equal to its upper bound, plus an overflow bucket. Recording is a bucket search and a few
+// LongAdder increments, so concurrent writers do not contend on a shared counter.
+public class Histogram {
+
+    private final long[] upperBounds;
+    private final LongAdder[] buckets;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public Histogram(long... upperBounds) {
+        this.upperBounds = upperBounds.clone();
+        Arrays.sort(this.upperBounds);
+        this.buckets = new LongAdder[this.upperBounds.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long value) {
+        int index = Arrays.binarySearch(upperBounds, value);
+        buckets[index >= 0 ? index : -index - 1].increment();
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    public Snapshot snapshot() {
+        long[] cumulative = new long[buckets.length];
+        long running = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            running += buckets[i].sum();
+            cumulative[i] = running;
+        }
+        // Take the total from the buckets so the snapshot is self-consistent under writes.
+        return new Snapshot(upperBounds.clone(), cumulative, running, sum.sum(), max.get());
+    }
+
+    // cumulativeCounts has one entry per upper bound plus a trailing +Inf entry.
+    public record Snapshot(long[] upperBounds, long[] cumulativeCounts, long count, long sum, long max) {
+    }
+}
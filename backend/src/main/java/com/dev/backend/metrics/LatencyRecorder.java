@@ -0,0 +1,142 @@
+package com.dev.backend.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// HdrHistogram-style latency recorder in microseconds. Values below 128 get an exact bucket;
+// above that every power of two is split into 64 linear sub-buckets, so any recorded value is
+// resolved to within 1/64 (about 1.6%) up to MAX_VALUE. Recording is one bucket computation and
+// two atomic adds on a stripe picked by thread, so writers neither allocate nor share cache lines
+// with each other; readers sum the stripes.
+public final class LatencyRecorder {
+
+    public static final long MAX_VALUE = (1L << 27) - 1; // ~134 s
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+    private static final int BUCKETS = bucketIndex(MAX_VALUE) + 1;
+    // Each stripe keeps its bucket counts followed by the running sum and max.
+    private static final int SUM_SLOT = BUCKETS;
+    private static final int MAX_SLOT = BUCKETS + 1;
+
+    private final AtomicLongArray[] stripes;
+    private final int stripeMask;
+
+    public LatencyRecorder(int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.stripes = new AtomicLongArray[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new AtomicLongArray(BUCKETS + 2);
+        }
+        this.stripeMask = size - 1;
+    }
+
+    public void record(long micros) {
+        long value = Math.min(Math.max(micros, 0), MAX_VALUE);
+        AtomicLongArray stripe = stripes[(int) mix(Thread.currentThread().getId()) & stripeMask];
+        stripe.getAndIncrement(bucketIndex(value));
+        stripe.getAndAdd(SUM_SLOT, value);
+        long max = stripe.get(MAX_SLOT);
+        while (value > max && !stripe.compareAndSet(MAX_SLOT, max, value)) {
+            max = stripe.get(MAX_SLOT);
+        }
+    }
+
+    // Cumulative state since creation. Counts are read bucket by bucket while writers keep going,
+    // so a snapshot may include a value in one bucket and miss its sum; that skew is one request.
+    public Counts counts() {
+        long[] counts = new long[BUCKETS];
+        long sum = 0;
+        long max = 0;
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] += stripe.get(i);
+            }
+            sum += stripe.get(SUM_SLOT);
+            max = Math.max(max, stripe.get(MAX_SLOT));
+        }
+        return new Counts(counts, sum, max);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    // Largest value that lands in the bucket, so reported percentiles never under-state latency.
+    static long highestValue(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int shift = (index - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+        long subBucket = (index - LINEAR_LIMIT) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    private static long mix(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+
+    public record Counts(long[] buckets, long sum, long max) {
+
+        public long count() {
+            long total = 0;
+            for (long bucket : buckets) {
+                total += bucket;
+            }
+            return total;
+        }
+
+        // Counts recorded since an earlier snapshot of the same recorder. The max is the top of
+        // the highest bucket that saw traffic, as the exact interval max is not tracked.
+        public Counts since(Counts earlier) {
+            long[] delta = new long[buckets.length];
+            int highest = -1;
+            for (int i = 0; i < buckets.length; i++) {
+                delta[i] = buckets[i] - earlier.buckets[i];
+                if (delta[i] > 0) {
+                    highest = i;
+                }
+            }
+            return new Counts(delta, sum - earlier.sum, highest < 0 ? 0 : Math.min(highestValue(highest), max));
+        }
+
+        public long percentile(double percentile) {
+            long total = count();
+            if (total == 0) {
+                return 0;
+            }
+            long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= target) {
+                    return Math.min(highestValue(i), max);
+                }
+            }
+            return max;
+        }
+
+        // Folds the fine-grained buckets into Prometheus-style cumulative buckets.
+        public Histogram.Snapshot toSnapshot(long[] upperBounds) {
+            long[] cumulative = new long[upperBounds.length + 1];
+            int bound = 0;
+            long running = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                while (bound < upperBounds.length && highestValue(i) > upperBounds[bound]) {
+                    cumulative[bound++] = running;
+                }
+                running += buckets[i];
+            }
+            while (bound < upperBounds.length) {
+                cumulative[bound++] = running;
+            }
+            cumulative[upperBounds.length] = running;
+            return new Histogram.Snapshot(upperBounds.clone(), cumulative, running, sum, max);
+        }
+    }
+}
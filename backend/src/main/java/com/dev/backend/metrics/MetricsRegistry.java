@@ -0,0 +1,124 @@
+package com.dev.backend.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+// In-process registry rendered in the Prometheus text exposition format. Metrics are registered
+// once as suppliers and read at scrape time, so a scrape only reads counters that the owning
+// components already keep; nothing here touches the database.
+@Component
+public class MetricsRegistry {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final Map<String, Family> families = new ConcurrentSkipListMap<>();
+
+    public void counter(String name, String help, Supplier<Number> value) {
+        register(new Family(name, help, "counter", () -> List.of(new Sample(Map.of(), value.get())), null, 1));
+    }
+
+    public void counters(String name, String help, Supplier<List<Sample>> samples) {
+        register(new Family(name, help, "counter", samples, null, 1));
+    }
+
+    public void gauge(String name, String help, Supplier<Number> value) {
+        register(new Family(name, help, "gauge", () -> List.of(new Sample(Map.of(), value.get())), null, 1));
+    }
+
+    public void gauges(String name, String help, Supplier<List<Sample>> samples) {
+        register(new Family(name, help, "gauge", samples, null, 1));
+    }
+
+    // scale converts recorded units to the exported base unit, e.g. 1e-6 for microseconds to seconds.
+    public void histograms(String name, String help, double scale, Supplier<List<HistogramSample>> histograms) {
+        register(new Family(name, help, "histogram", null, histograms, scale));
+    }
+
+    public String scrape() {
+        StringBuilder out = new StringBuilder();
+        for (Family family : families.values()) {
+            family.write(out);
+        }
+        return out.toString();
+    }
+
+    private void register(Family family) {
+        if (families.putIfAbsent(family.name(), family) != null) {
+            throw new IllegalStateException("Metric already registered: " + family.name());
+        }
+    }
+
+    public record Sample(Map<String, String> labels, Number value) {
+    }
+
+    public record HistogramSample(Map<String, String> labels, Histogram.Snapshot snapshot) {
+    }
+
+    private record Family(
+            String name,
+            String help,
+            String type,
+            Supplier<List<Sample>> samples,
+            Supplier<List<HistogramSample>> histograms,
+            double scale
+    ) {
+
+        void write(StringBuilder out) {
+            List<String> lines = new ArrayList<>();
+            if (samples != null) {
+                for (Sample sample : samples.get()) {
+                    lines.add(name + labels(sample.labels(), null) + " " + format(sample.value().doubleValue()));
+                }
+            } else {
+                for (HistogramSample histogram : histograms.get()) {
+                    Histogram.Snapshot snapshot = histogram.snapshot();
+                    long[] bounds = snapshot.upperBounds();
+                    for (int i = 0; i < bounds.length; i++) {
+                        lines.add(name + "_bucket" + labels(histogram.labels(), format(bounds[i] * scale))
+                                + " " + snapshot.cumulativeCounts()[i]);
+                    }
+                    lines.add(name + "_bucket" + labels(histogram.labels(), "+Inf") + " " + snapshot.count());
+                    lines.add(name + "_sum" + labels(histogram.labels(), null) + " " + format(snapshot.sum() * scale));
+                    lines.add(name + "_count" + labels(histogram.labels(), null) + " " + snapshot.count());
+                }
+            }
+            if (lines.isEmpty()) {
+                return;
+            }
+            out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+            out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+            lines.forEach(line -> out.append(line).append('\n'));
+        }
+
+        private static String labels(Map<String, String> labels, String le) {
+            if (labels.isEmpty() && le == null) {
+                return "";
+            }
+            StringBuilder out = new StringBuilder("{");
+            labels.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .forEach(entry -> out.append(entry.getKey()).append("=\"")
+                            .append(escape(entry.getValue())).append("\","));
+            if (le != null) {
+                out.append("le=\"").append(le).append("\",");
+            }
+            out.setLength(out.length() - 1);
+            return out.append('}').toString();
+        }
+
+        private static String escape(String value) {
+            return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+        }
+
+        private static String format(double value) {
+            if (value == Math.rint(value) && !Double.isInfinite(value)) {
+                return Long.toString((long) value);
+            }
+            return Double.toString(value);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.dev.backend.metrics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Database work done on behalf of the current request. The web filter opens one per request;
+// the instrumented data source and the Hibernate load listener add to whichever is bound to
+// the calling thread. Counters are atomic because dashboard sections run on worker threads
+// that share their request's stats.
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private final String endpoint;
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong dbNanos = new AtomicLong();
+    private final AtomicInteger entityLoads = new AtomicInteger();
+    private final AtomicInteger slowQueries = new AtomicInteger();
+
+    private RequestQueryStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public static RequestQueryStats begin(String endpoint) {
+        RequestQueryStats stats = new RequestQueryStats(endpoint);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    // Binds stats (possibly null) to this thread and returns what was bound before.
+    public static RequestQueryStats bind(RequestQueryStats stats) {
+        RequestQueryStats previous = CURRENT.get();
+        if (stats == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(stats);
+        }
+        return previous;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static void recordStatement(long nanos, boolean slow) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements.incrementAndGet();
+            stats.dbNanos.addAndGet(nanos);
+            if (slow) {
+                stats.slowQueries.incrementAndGet();
+            }
+        }
+    }
+
+    public static void recordEntityLoad() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.entityLoads.incrementAndGet();
+        }
+    }
+
+    public String endpoint() {
+        return endpoint;
+    }
+
+    public int statements() {
+        return statements.get();
+    }
+
+    public long dbNanos() {
+        return dbNanos.get();
+    }
+
+    public int entityLoads() {
+        return entityLoads.get();
+    }
+
+    public int slowQueries() {
+        return slowQueries.get();
+    }
+}
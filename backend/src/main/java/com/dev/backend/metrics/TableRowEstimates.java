@@ -0,0 +1,66 @@
+package com.dev.backend.metrics;
+
+import com.dev.backend.config.DatabaseDialect;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Approximate row counts for the main tables, refreshed on a schedule. On Postgres they come from
+// the planner's pg_class.reltuples, which costs one catalog lookup instead of a full scan per
+// table. Other databases (H2 in tests and local runs) fall back to exact counts.
+@Component
+public class TableRowEstimates {
+
+    private static final Logger log = LoggerFactory.getLogger(TableRowEstimates.class);
+
+    static final List<String> TABLES = List.of("users", "applications", "tasks", "stage_events", "audit_events");
+
+    private static final String POSTGRES_SQL = """
+            select c.relname, greatest(c.reltuples, 0)::bigint
+            from pg_class c
+            join pg_namespace n on n.oid = c.relnamespace
+            where n.nspname = current_schema()
+              and c.relkind = 'r'
+              and c.relname in ('users', 'applications', 'tasks', 'stage_events', 'audit_events')
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect dialect;
+
+    private volatile Map<String, Long> estimates = Map.of();
+
+    public TableRowEstimates(JdbcTemplate jdbcTemplate, DatabaseDialect dialect) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = dialect;
+    }
+
+    @Scheduled(fixedDelayString = "${app.metrics.row-estimates-refresh-millis:300000}")
+    public void refresh() {
+        Map<String, Long> refreshed = new LinkedHashMap<>();
+        try {
+            if (dialect.isPostgres()) {
+                jdbcTemplate.query(POSTGRES_SQL, resultSet -> {
+                    refreshed.put(resultSet.getString(1), resultSet.getLong(2));
+                });
+            } else {
+                for (String table : TABLES) {
+                    refreshed.put(table, jdbcTemplate.queryForObject("select count(*) from " + table, Long.class));
+                }
+            }
+            estimates = Map.copyOf(refreshed);
+        } catch (DataAccessException ex) {
+            // Keep serving the previous estimates.
+            log.warn("Failed to refresh table row estimates", ex);
+        }
+    }
+
+    public Map<String, Long> estimates() {
+        return estimates;
+    }
+}
@@ -11,6 +11,7 @@ import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
@@ -23,7 +24,8 @@ import lombok.NoArgsConstructor;
         indexes = {
                 @Index(name = "idx_applications_stage", columnList = "stage"),
                 @Index(name = "idx_applications_last_touch_at", columnList = "last_touch_at"),
-                @Index(name = "idx_applications_user_id", columnList = "user_id")
+                @Index(name = "idx_applications_user_id", columnList = "user_id"),
+                @Index(name = "idx_applications_user_last_touch_id", columnList = "user_id, last_touch_at, id")
         }
 )
 @Data
@@ -68,6 +70,11 @@ public class Application {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // Bumped by every write; exposed to clients as the ETag for If-Match.
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
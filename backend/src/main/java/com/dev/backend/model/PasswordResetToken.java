@@ -19,7 +19,9 @@ import lombok.NoArgsConstructor;
         name = "password_reset_tokens",
         indexes = {
                 @Index(name = "idx_password_reset_tokens_user_id", columnList = "user_id"),
-                @Index(name = "idx_password_reset_tokens_token_hash", columnList = "token_hash", unique = true)
+                @Index(name = "idx_password_reset_tokens_token_hash", columnList = "token_hash", unique = true),
+                @Index(name = "idx_password_reset_tokens_expires_at", columnList = "expires_at"),
+                @Index(name = "idx_password_reset_tokens_used_at", columnList = "used_at")
         }
 )
 @Data
@@ -19,7 +19,10 @@ import lombok.NoArgsConstructor;
         name = "refresh_tokens",
         indexes = {
                 @Index(name = "idx_refresh_tokens_user_id", columnList = "user_id"),
-                @Index(name = "idx_refresh_tokens_token_hash", columnList = "token_hash", unique = true)
+                @Index(name = "idx_refresh_tokens_token_hash", columnList = "token_hash", unique = true),
+                @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+                @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at"),
+                @Index(name = "idx_refresh_tokens_revoked_at", columnList = "revoked_at")
         }
 )
 @Data
@@ -34,6 +37,10 @@ public class RefreshToken {
     @Column(name = "user_id", nullable = false)
     private UUID userId;
 
+    // Every token rotated from the same login shares a family, so a replayed token can revoke them all.
+    @Column(name = "family_id", nullable = false)
+    private UUID familyId;
+
     @Column(name = "token_hash", nullable = false, length = 128, unique = true)
     private String tokenHash;
 
@@ -21,11 +21,15 @@ public enum Stage {
             WITHDRAWN, EnumSet.noneOf(Stage.class)
     );
 
+    // TRANSITIONS[from.ordinal()][to.ordinal()], built once so checks are two array loads.
+    private static final boolean[][] TRANSITIONS = new boolean[values().length][values().length];
+
+    static {
+        ALLOWED_TRANSITIONS.forEach((from, targets) -> targets.forEach(to -> TRANSITIONS[from.ordinal()][to.ordinal()] = true));
+    }
+
     public boolean canTransitionTo(Stage next) {
-        if (next == null) {
-            return false;
-        }
-        return ALLOWED_TRANSITIONS.getOrDefault(this, EnumSet.noneOf(Stage.class)).contains(next);
+        return next != null && TRANSITIONS[ordinal()][next.ordinal()];
     }
 
     public boolean isTerminal() {
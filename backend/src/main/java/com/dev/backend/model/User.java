@@ -19,7 +19,8 @@ import lombok.NoArgsConstructor;
 @Table(
         name = "users",
         indexes = {
-                @Index(name = "idx_users_email", columnList = "email", unique = true)
+                @Index(name = "idx_users_email", columnList = "email", unique = true),
+                @Index(name = "idx_users_deleted_at", columnList = "deleted_at")
         }
 )
 @Data
@@ -49,6 +50,10 @@ public class User {
     @Column(name = "mfa_secret", length = 128)
     private String mfaSecret;
 
+    // Set when the account is deleted but its data is still being purged in the background.
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
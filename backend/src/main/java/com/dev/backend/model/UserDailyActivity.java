@@ -0,0 +1,44 @@
+package com.dev.backend.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "user_daily_activity")
+@IdClass(UserDailyActivity.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDailyActivity {
+
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Id
+    @Column(name = "`day`")
+    private LocalDate day;
+
+    @Column(name = "stage_changes", nullable = false)
+    private long stageChanges;
+
+    @Column(name = "tasks_completed", nullable = false)
+    private long tasksCompleted;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID userId;
+        private LocalDate day;
+    }
+}
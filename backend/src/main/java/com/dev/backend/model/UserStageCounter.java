@@ -0,0 +1,74 @@
+package com.dev.backend.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "user_stage_counters")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStageCounter {
+
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Column(nullable = false)
+    private long saved;
+
+    @Column(nullable = false)
+    private long applied;
+
+    @Column(nullable = false)
+    private long interview;
+
+    @Column(nullable = false)
+    private long offer;
+
+    @Column(nullable = false)
+    private long rejected;
+
+    @Column(nullable = false)
+    private long withdrawn;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public long countFor(Stage stage) {
+        return switch (stage) {
+            case SAVED -> saved;
+            case APPLIED -> applied;
+            case INTERVIEW -> interview;
+            case OFFER -> offer;
+            case REJECTED -> rejected;
+            case WITHDRAWN -> withdrawn;
+        };
+    }
+
+    public void adjust(Stage stage, long delta) {
+        switch (stage) {
+            case SAVED -> saved = Math.max(0, saved + delta);
+            case APPLIED -> applied = Math.max(0, applied + delta);
+            case INTERVIEW -> interview = Math.max(0, interview + delta);
+            case OFFER -> offer = Math.max(0, offer + delta);
+            case REJECTED -> rejected = Math.max(0, rejected + delta);
+            case WITHDRAWN -> withdrawn = Math.max(0, withdrawn + delta);
+        }
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onWrite() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -3,16 +3,68 @@ package com.dev.backend.repository;
 import com.dev.backend.model.Application;
 import com.dev.backend.model.Stage;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
     Optional<Application> findByIdAndUserId(Long id, UUID userId);
+    boolean existsByIdAndUserId(Long id, UUID userId);
+
+    long countByUserId(UUID userId);
+
+    @Query("select a.stage from Application a where a.id = :id and a.userId = :userId")
+    Optional<Stage> findStageByIdAndUserId(@Param("id") Long id, @Param("userId") UUID userId);
+
+    @Query("select a.id as id, a.stage as stage from Application a where a.userId = :userId and a.id in :ids")
+    List<IdAndStage> findStagesByUserIdAndIdIn(@Param("userId") UUID userId, @Param("ids") Collection<Long> ids);
+
+    // Compare-and-set on the stage, and on the version when one is given (If-Match): returns 0 if
+    // the row is missing, not owned, was moved since it was read, or no longer has that version. Clears the persistence context, so previously
+    // loaded applications are detached afterwards.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Application a
+            set a.stage = :to, a.lastTouchAt = :now, a.stageChangedAt = :now, a.updatedAt = :now,
+                a.version = a.version + 1
+            where a.id = :id and a.userId = :userId and a.stage = :expected
+              and a.version = coalesce(:version, a.version)
+            """)
+    int transition(
+            @Param("id") Long id,
+            @Param("userId") UUID userId,
+            @Param("expected") Stage expected,
+            @Param("version") Long version,
+            @Param("to") Stage to,
+            @Param("now") LocalDateTime now
+    );
+
+    // Only rows still in the expected stage move, so the caller can detect a concurrent transition.
+    @Modifying
+    @Query("""
+            update Application a
+            set a.stage = :to, a.lastTouchAt = :now, a.stageChangedAt = :now, a.updatedAt = :now,
+                a.version = a.version + 1
+            where a.userId = :userId and a.stage = :from and a.id in :ids
+            """)
+    int transitionAll(
+            @Param("userId") UUID userId,
+            @Param("ids") Collection<Long> ids,
+            @Param("from") Stage from,
+            @Param("to") Stage to,
+            @Param("now") LocalDateTime now
+    );
+
+    @Modifying
+    @Query("delete from Application a where a.id = :id and a.userId = :userId")
+    int deleteByIdAndUserId(@Param("id") Long id, @Param("userId") UUID userId);
     List<Application> findAllByUserId(UUID userId);
     List<Application> findAllByUserId(UUID userId, Sort sort);
     List<Application> findAllByUserIdAndStage(UUID userId, Stage stage, Sort sort);
@@ -24,10 +76,47 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
             Sort sort
     );
 
+    @Query("""
+            select a from Application a
+            where a.userId = :userId
+              and (:stage is null or a.stage = :stage)
+            order by a.lastTouchAt desc, a.id desc
+            """)
+    List<Application> findFirstPage(
+            @Param("userId") UUID userId,
+            @Param("stage") Stage stage,
+            Pageable pageable
+    );
+
+    @Query("""
+            select a from Application a
+            where a.userId = :userId
+              and (:stage is null or a.stage = :stage)
+              and (a.lastTouchAt < :lastTouchAt or (a.lastTouchAt = :lastTouchAt and a.id < :id))
+            order by a.lastTouchAt desc, a.id desc
+            """)
+    List<Application> findPageAfter(
+            @Param("userId") UUID userId,
+            @Param("stage") Stage stage,
+            @Param("lastTouchAt") LocalDateTime lastTouchAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
     @Query("select a.stage as stage, count(a) as total from Application a where a.userId = :userId group by a.stage")
     List<StageCount> countByStage(@Param("userId") UUID userId);
 
-    void deleteAllByUserId(UUID userId);
+    @Query("select distinct a.userId from Application a where a.userId > :after order by a.userId")
+    List<UUID> findUserIdsAfter(@Param("after") UUID after, Pageable pageable);
+
+    @Modifying
+    @Query("delete from Application a where a.userId = :userId")
+    int deleteAllByUserId(@Param("userId") UUID userId);
+
+    interface IdAndStage {
+        Long getId();
+        Stage getStage();
+    }
 
     interface StageCount {
         Stage getStage();
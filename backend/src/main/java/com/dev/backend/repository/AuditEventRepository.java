@@ -5,9 +5,14 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface AuditEventRepository extends JpaRepository<AuditEvent, Long> {
     Page<AuditEvent> findAllByUserId(UUID userId, Pageable pageable);
 
-    void deleteAllByUserId(UUID userId);
+    @Modifying
+    @Query("delete from AuditEvent e where e.userId = :userId")
+    int deleteAllByUserId(@Param("userId") UUID userId);
 }
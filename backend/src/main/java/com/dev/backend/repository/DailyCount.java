@@ -0,0 +1,8 @@
+package com.dev.backend.repository;
+
+import java.time.LocalDate;
+
+public interface DailyCount {
+    LocalDate getDay();
+    long getTotal();
+}
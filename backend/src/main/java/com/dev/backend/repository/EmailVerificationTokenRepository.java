@@ -4,8 +4,16 @@ import com.dev.backend.model.EmailVerificationToken;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface EmailVerificationTokenRepository extends JpaRepository<EmailVerificationToken, Long> {
     Optional<EmailVerificationToken> findByTokenHash(String tokenHash);
-    void deleteAllByUserId(UUID userId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from EmailVerificationToken t where t.userId = :userId")
+    int deleteAllByUserId(@Param("userId") UUID userId);
 }
@@ -4,8 +4,16 @@ import com.dev.backend.model.PasswordResetToken;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface PasswordResetTokenRepository extends JpaRepository<PasswordResetToken, Long> {
     Optional<PasswordResetToken> findByTokenHash(String tokenHash);
-    void deleteAllByUserId(UUID userId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from PasswordResetToken t where t.userId = :userId")
+    int deleteAllByUserId(@Param("userId") UUID userId);
 }
@@ -5,14 +5,26 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface StageEventRepository extends JpaRepository<StageEvent, Long> {
     Optional<StageEvent> findByIdAndApplicationUserId(Long id, UUID userId);
     List<StageEvent> findAllByApplicationUserId(UUID userId);
-    List<StageEvent> findAllByApplicationUserIdAndCreatedAtBetween(
-            UUID userId,
-            java.time.LocalDateTime start,
-            java.time.LocalDateTime end
+
+    @Query("""
+            select cast(e.createdAt as LocalDate) as day, count(e) as total
+            from StageEvent e
+            where e.application.userId = :userId
+              and e.createdAt >= :start
+              and e.createdAt < :end
+            group by cast(e.createdAt as LocalDate)
+            """)
+    List<DailyCount> countPerDay(
+            @Param("userId") UUID userId,
+            @Param("start") java.time.LocalDateTime start,
+            @Param("end") java.time.LocalDateTime end
     );
 
     List<StageEvent> findAllByApplicationIdAndApplicationUserIdOrderByCreatedAtDesc(
@@ -20,7 +32,19 @@ public interface StageEventRepository extends JpaRepository<StageEvent, Long> {
             UUID userId
     );
 
-    void deleteAllByApplicationIdAndApplicationUserId(Long applicationId, UUID userId);
+    @Modifying
+    @Query("""
+            delete from StageEvent e
+            where e.application.id in (
+                select a.id from Application a where a.id = :applicationId and a.userId = :userId
+            )
+            """)
+    int deleteAllByApplicationIdAndApplicationUserId(
+            @Param("applicationId") Long applicationId,
+            @Param("userId") UUID userId
+    );
 
-    void deleteAllByApplicationUserId(UUID userId);
+    @Modifying
+    @Query("delete from StageEvent e where e.application.id in (select a.id from Application a where a.userId = :userId)")
+    int deleteAllByApplicationUserId(@Param("userId") UUID userId);
 }
@@ -1,11 +1,13 @@
 package com.dev.backend.repository;
 
+import com.dev.backend.dto.TaskResponse;
 import com.dev.backend.model.Task;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,22 +15,14 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     Optional<Task> findByIdAndApplicationUserId(Long id, UUID userId);
     List<Task> findAllByApplicationUserId(UUID userId);
     List<Task> findAllByApplicationId(Long applicationId, Sort sort);
-    List<Task> findAllByApplicationUserIdAndStatusAndDueAtGreaterThanEqualAndDueAtLessThan(
-            UUID userId,
-            com.dev.backend.model.TaskStatus status,
-            java.time.LocalDateTime start,
-            java.time.LocalDateTime end,
-            Sort sort
-    );
-    List<Task> findAllByApplicationUserIdAndStatusAndDueAtLessThan(
-            UUID userId,
-            com.dev.backend.model.TaskStatus status,
-            java.time.LocalDateTime before,
-            Sort sort
-    );
 
+    // Listing queries project straight into TaskResponse: one statement, no entity hydration,
+    // and the application id comes from the foreign key column without joining its row in.
     @Query("""
-            select t from Task t
+            select new com.dev.backend.dto.TaskResponse(
+                t.id, t.application.id, t.title, t.status, t.dueAt, t.snoozeUntil,
+                t.notes, t.completedAt, t.createdAt, t.updatedAt, t.version)
+            from Task t
             where t.application.userId = :userId
               and t.status = com.dev.backend.model.TaskStatus.OPEN
               and t.dueAt >= :start
@@ -36,13 +30,40 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
               and (t.snoozeUntil is null or t.snoozeUntil <= :now)
             order by t.dueAt asc
             """)
-    List<Task> findDueSoon(
+    List<TaskResponse> findDueSoon(
             @Param("userId") UUID userId,
             @Param("start") java.time.LocalDateTime start,
             @Param("end") java.time.LocalDateTime end,
             @Param("now") java.time.LocalDateTime now
     );
 
+    @Query("""
+            select new com.dev.backend.dto.TaskResponse(
+                t.id, t.application.id, t.title, t.status, t.dueAt, t.snoozeUntil,
+                t.notes, t.completedAt, t.createdAt, t.updatedAt, t.version)
+            from Task t
+            where t.application.userId = :userId
+              and t.status = com.dev.backend.model.TaskStatus.OPEN
+              and t.dueAt < :before
+              and (t.snoozeUntil is null or t.snoozeUntil <= :now)
+            order by t.dueAt asc
+            """)
+    List<TaskResponse> findOverdue(
+            @Param("userId") UUID userId,
+            @Param("before") java.time.LocalDateTime before,
+            @Param("now") java.time.LocalDateTime now
+    );
+
+    @Query("""
+            select new com.dev.backend.dto.TaskResponse(
+                t.id, t.application.id, t.title, t.status, t.dueAt, t.snoozeUntil,
+                t.notes, t.completedAt, t.createdAt, t.updatedAt, t.version)
+            from Task t
+            where t.application.id = :applicationId
+            order by t.dueAt asc, t.createdAt asc
+            """)
+    List<TaskResponse> findResponsesByApplicationId(@Param("applicationId") Long applicationId);
+
     @Query("""
             select count(t) from Task t
             where t.application.userId = :userId
@@ -56,13 +77,33 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
             @Param("now") java.time.LocalDateTime now
     );
 
-    List<Task> findAllByApplicationUserIdAndCompletedAtBetween(
-            UUID userId,
-            java.time.LocalDateTime start,
-            java.time.LocalDateTime end
+    @Query("""
+            select cast(t.completedAt as LocalDate) as day, count(t) as total
+            from Task t
+            where t.application.userId = :userId
+              and t.completedAt >= :start
+              and t.completedAt < :end
+            group by cast(t.completedAt as LocalDate)
+            """)
+    List<DailyCount> countCompletedPerDay(
+            @Param("userId") UUID userId,
+            @Param("start") java.time.LocalDateTime start,
+            @Param("end") java.time.LocalDateTime end
     );
 
-    void deleteAllByApplicationIdAndApplicationUserId(Long applicationId, UUID userId);
+    @Modifying
+    @Query("""
+            delete from Task t
+            where t.application.id in (
+                select a.id from Application a where a.id = :applicationId and a.userId = :userId
+            )
+            """)
+    int deleteAllByApplicationIdAndApplicationUserId(
+            @Param("applicationId") Long applicationId,
+            @Param("userId") UUID userId
+    );
 
-    void deleteAllByApplicationUserId(UUID userId);
+    @Modifying
+    @Query("delete from Task t where t.application.id in (select a.id from Application a where a.userId = :userId)")
+    int deleteAllByApplicationUserId(@Param("userId") UUID userId);
 }
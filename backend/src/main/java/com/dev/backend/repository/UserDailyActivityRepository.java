@@ -0,0 +1,18 @@
+package com.dev.backend.repository;
+
+import com.dev.backend.model.UserDailyActivity;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserDailyActivityRepository extends JpaRepository<UserDailyActivity, UserDailyActivity.Key> {
+    List<UserDailyActivity> findAllByUserIdAndDayBetween(UUID userId, LocalDate start, LocalDate end);
+
+    @Modifying
+    @Query("delete from UserDailyActivity a where a.userId = :userId")
+    int deleteAllByUserId(@Param("userId") UUID userId);
+}
@@ -0,0 +1,21 @@
+package com.dev.backend.repository;
+
+import com.dev.backend.model.UserStageCounter;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserStageCounterRepository extends JpaRepository<UserStageCounter, UUID> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from UserStageCounter c where c.userId = :userId")
+    Optional<UserStageCounter> findForUpdate(@Param("userId") UUID userId);
+
+    @Modifying
+    @Query("delete from UserStageCounter c where c.userId = :userId")
+    int deleteAllByUserId(@Param("userId") UUID userId);
+}
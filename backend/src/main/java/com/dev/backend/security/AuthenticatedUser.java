@@ -1,15 +1,22 @@
 package com.dev.backend.security;
 
+import java.time.Instant;
 import java.util.UUID;
 
 public class AuthenticatedUser {
 
     private final UUID id;
     private final String email;
+    private final Instant expiresAt;
 
     public AuthenticatedUser(UUID id, String email) {
+        this(id, email, null);
+    }
+
+    public AuthenticatedUser(UUID id, String email, Instant expiresAt) {
         this.id = id;
         this.email = email;
+        this.expiresAt = expiresAt;
     }
 
     public UUID getId() {
@@ -19,4 +26,8 @@ public class AuthenticatedUser {
     public String getEmail() {
         return email;
     }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
 }
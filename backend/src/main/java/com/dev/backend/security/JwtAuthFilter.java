@@ -1,6 +1,7 @@
 package com.dev.backend.security;
 
 import com.dev.backend.dto.ErrorResponse;
+import com.dev.backend.repository.UserRepository;
 import com.dev.backend.service.JwtService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.JwtException;
@@ -26,15 +27,21 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     public static final String USER_EMAIL_ATTR = "authUserEmail";
 
     private final JwtService jwtService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
     private final List<String> allowedOrigins;
 
     public JwtAuthFilter(
             JwtService jwtService,
+            VerifiedTokenCache verifiedTokenCache,
+            UserRepository userRepository,
             ObjectMapper objectMapper,
             @Value("${app.cors.allowed-origins:*}") String allowedOrigins
     ) {
         this.jwtService = jwtService;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.userRepository = userRepository;
         this.objectMapper = objectMapper;
         this.allowedOrigins = Arrays.stream(allowedOrigins.split(","))
                 .map(String::trim)
@@ -80,7 +87,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         }
 
         try {
-            AuthenticatedUser user = jwtService.parseToken(token);
+            AuthenticatedUser user = verifiedTokenCache.get(token, this::verify);
             request.setAttribute(USER_ID_ATTR, user.getId());
             request.setAttribute(USER_EMAIL_ATTR, user.getEmail());
             filterChain.doFilter(request, response);
@@ -89,6 +96,16 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         }
     }
 
+    // Tokens of a deleted account stay valid until they expire, so the account is checked
+    // whenever a token is verified; deleting the account evicts its cached tokens.
+    private AuthenticatedUser verify(String token) {
+        AuthenticatedUser user = jwtService.parseToken(token);
+        if (!userRepository.existsByIdAndDeletedAtIsNull(user.getId())) {
+            throw new JwtException("Account deleted");
+        }
+        return user;
+    }
+
     private void writeUnauthorized(HttpServletRequest request, HttpServletResponse response, String message)
             throws IOException {
         addCorsHeaders(request, response);
@@ -0,0 +1,117 @@
+package com.dev.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, AuthenticatedUser> entries;
+    private final boolean enabled;
+    private final long maxTtlNanos;
+
+    public VerifiedTokenCache(
+            @Value("${app.security.token-cache.enabled:true}") boolean enabled,
+            @Value("${app.security.token-cache.max-size:20000}") long maxSize,
+            @Value("${app.security.token-cache.max-ttl-seconds:300}") long maxTtlSeconds
+    ) {
+        this.enabled = enabled;
+        this.maxTtlNanos = Duration.ofSeconds(maxTtlSeconds).toNanos();
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, AuthenticatedUser>() {
+                    @Override
+                    public long expireAfterCreate(String key, AuthenticatedUser user, long currentTime) {
+                        return ttlFor(user);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(
+                            String key,
+                            AuthenticatedUser user,
+                            long currentTime,
+                            long currentDuration
+                    ) {
+                        return ttlFor(user);
+                    }
+
+                    @Override
+                    public long expireAfterRead(
+                            String key,
+                            AuthenticatedUser user,
+                            long currentTime,
+                            long currentDuration
+                    ) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    public AuthenticatedUser get(String token, Function<String, AuthenticatedUser> verifier) {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+        String key = digest(token);
+        AuthenticatedUser cached = entries.getIfPresent(key);
+        if (cached != null && cached.getExpiresAt().isAfter(Instant.now())) {
+            return cached;
+        }
+        AuthenticatedUser verified = verifier.apply(token);
+        if (verified.getExpiresAt() != null) {
+            entries.put(key, verified);
+        }
+        return verified;
+    }
+
+    // Drops every cached token of the user, again after the caller's transaction completes so a
+    // request verified in between cannot keep a stale entry.
+    public void invalidateUser(UUID userId) {
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    public CacheStats stats() {
+        return entries.stats();
+    }
+
+    private void evict(UUID userId) {
+        entries.asMap().values().removeIf(user -> userId.equals(user.getId()));
+    }
+
+    private long ttlFor(AuthenticatedUser user) {
+        long untilExpiry = Duration.between(Instant.now(), user.getExpiresAt()).toNanos();
+        return Math.max(0, Math.min(untilExpiry, maxTtlNanos));
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Unable to hash token", ex);
+        }
+    }
+}
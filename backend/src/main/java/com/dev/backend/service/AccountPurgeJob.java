@@ -0,0 +1,175 @@
+package com.dev.backend.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Finishes deleting accounts that were too large to remove inside the request. AuthService
+// tombstones the user row first (deleted_at set, email released, tokens dropped); this job then
+// removes the rest in bounded batches that each commit on their own, children before parents,
+// and the user row last. Work is queued as soon as the tombstone commits, and a periodic sweep
+// picks up anything a restart or another node left behind. Every step is idempotent.
+@Component
+public class AccountPurgeJob {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountPurgeJob.class);
+
+    private static final List<String> BATCH_SQL = List.of(
+            """
+            delete from tasks where id in (
+                select t.id from tasks t join applications a on a.id = t.application_id
+                where a.user_id = ? limit ?
+            )
+            """,
+            """
+            delete from stage_events where id in (
+                select e.id from stage_events e join applications a on a.id = e.application_id
+                where a.user_id = ? limit ?
+            )
+            """,
+            "delete from applications where id in (select id from applications where user_id = ? limit ?)",
+            "delete from audit_events where id in (select id from audit_events where user_id = ? limit ?)"
+    );
+    // At most a handful of rows per user.
+    private static final List<String> SMALL_TABLE_SQL = List.of(
+            "delete from user_stage_counters where user_id = ?",
+            "delete from user_daily_activity where user_id = ?",
+            "delete from refresh_tokens where user_id = ?",
+            "delete from email_verification_tokens where user_id = ?",
+            "delete from password_reset_tokens where user_id = ?"
+    );
+    private static final String DELETE_USER_SQL = "delete from users where id = ? and deleted_at is not null";
+    private static final String FIND_TOMBSTONES_SQL = "select id from users where deleted_at is not null";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditEventWriter auditEventWriter;
+    private final int batchSize;
+    private final long sweepIntervalMillis;
+    private final Set<UUID> queued = ConcurrentHashMap.newKeySet();
+    private final LongAdder purged = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    private ScheduledExecutorService executor;
+
+    public AccountPurgeJob(
+            JdbcTemplate jdbcTemplate,
+            AuditEventWriter auditEventWriter,
+            @Value("${app.account-deletion.batch-size:1000}") int batchSize,
+            @Value("${app.account-deletion.sweep-interval-millis:300000}") long sweepIntervalMillis
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditEventWriter = auditEventWriter;
+        this.batchSize = batchSize;
+        this.sweepIntervalMillis = sweepIntervalMillis;
+    }
+
+    @PostConstruct
+    void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "account-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::sweep, sweepIntervalMillis, sweepIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    // Queues the purge once the caller's transaction commits, so the job never races the tombstone.
+    public void enqueueAfterCommit(UUID userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(userId);
+            }
+        });
+    }
+
+    public int queuedCount() {
+        return queued.size();
+    }
+
+    public long purgedCount() {
+        return purged.sum();
+    }
+
+    public long failedCount() {
+        return failures.sum();
+    }
+
+    private void enqueue(UUID userId) {
+        if (!queued.add(userId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    purge(userId);
+                } finally {
+                    queued.remove(userId);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            // Shutting down; the next sweep after restart picks the account up.
+            queued.remove(userId);
+        }
+    }
+
+    private void sweep() {
+        try {
+            jdbcTemplate.queryForList(FIND_TOMBSTONES_SQL, UUID.class).forEach(this::enqueue);
+        } catch (DataAccessException ex) {
+            log.warn("Failed to look up accounts pending deletion", ex);
+        }
+    }
+
+    private void purge(UUID userId) {
+        long started = System.nanoTime();
+        try {
+            // Events still queued for this user would otherwise be written after their table is purged.
+            auditEventWriter.discard(userId);
+            long rows = 0;
+            for (String sql : BATCH_SQL) {
+                int deleted;
+                do {
+                    deleted = jdbcTemplate.update(sql, userId, batchSize);
+                    rows += deleted;
+                } while (deleted == batchSize);
+            }
+            for (String sql : SMALL_TABLE_SQL) {
+                rows += jdbcTemplate.update(sql, userId);
+            }
+            rows += jdbcTemplate.update(DELETE_USER_SQL, userId);
+            purged.increment();
+            log.info("Purged account {} ({} rows) in {} ms", userId, rows,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (DataAccessException ex) {
+            // Rows written concurrently can block a parent delete; the next sweep retries.
+            failures.increment();
+            log.warn("Failed to purge account {}", userId, ex);
+        }
+    }
+}
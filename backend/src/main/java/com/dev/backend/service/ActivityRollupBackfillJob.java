@@ -0,0 +1,81 @@
+package com.dev.backend.service;
+
+import com.dev.backend.repository.ApplicationRepository;
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Rebuilds user_daily_activity from stage_events and tasks for every user that owns an
+// application, one user per transaction. Runs by itself at startup while the rollup table is
+// still empty but stage events exist, so charts are complete right after the table is added;
+// the flag forces a run whenever the rollup is suspected to have drifted. Safe to re-run.
+@Component
+public class ActivityRollupBackfillJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ActivityRollupBackfillJob.class);
+    private static final UUID FIRST = new UUID(0, 0);
+
+    private final ApplicationRepository applicationRepository;
+    private final ActivityRollupService activityRollupService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean runOnStartup;
+    private final int pageSize;
+
+    public ActivityRollupBackfillJob(
+            ApplicationRepository applicationRepository,
+            ActivityRollupService activityRollupService,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.activity-rollup.backfill-on-startup:false}") boolean runOnStartup,
+            @Value("${app.activity-rollup.backfill-page-size:200}") int pageSize
+    ) {
+        this.applicationRepository = applicationRepository;
+        this.activityRollupService = activityRollupService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.runOnStartup = runOnStartup;
+        this.pageSize = pageSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (runOnStartup || activityRollupService.needsBackfill()) {
+            run();
+        }
+    }
+
+    public int run() {
+        long started = System.nanoTime();
+        int users = 0;
+        int days = 0;
+        int failed = 0;
+        UUID after = FIRST;
+        while (true) {
+            List<UUID> userIds = applicationRepository.findUserIdsAfter(after, PageRequest.of(0, pageSize));
+            for (UUID userId : userIds) {
+                try {
+                    Integer rebuilt = transactionTemplate.execute(status -> activityRollupService.rebuild(userId));
+                    days += rebuilt == null ? 0 : rebuilt;
+                    users++;
+                } catch (RuntimeException ex) {
+                    // One bad user must not leave everyone after them without a rollup.
+                    failed++;
+                    log.warn("Failed to rebuild daily activity for user {}", userId, ex);
+                }
+            }
+            if (userIds.size() < pageSize) {
+                break;
+            }
+            after = userIds.get(userIds.size() - 1);
+        }
+        log.info("Rebuilt daily activity for {} users ({} days, {} failed) in {} ms",
+                users, days, failed, (System.nanoTime() - started) / 1_000_000);
+        return users;
+    }
+}
@@ -0,0 +1,151 @@
+package com.dev.backend.service;
+
+import com.dev.backend.config.DatabaseDialect;
+import com.dev.backend.model.UserDailyActivity;
+import com.dev.backend.repository.DailyCount;
+import com.dev.backend.repository.StageEventRepository;
+import com.dev.backend.repository.TaskRepository;
+import com.dev.backend.repository.UserDailyActivityRepository;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+// Keeps user_daily_activity in step with stage_events and completed tasks so the activity
+// chart reads one row per active day. Writes are atomic upserts and run inside the caller's
+// transaction; counts are clamped at zero.
+@Service
+public class ActivityRollupService {
+
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 1, 1, 0, 0);
+
+    private static final String POSTGRES_UPSERT_SQL = """
+            insert into user_daily_activity (user_id, "day", stage_changes, tasks_completed)
+            values (?, ?, greatest(?, 0), greatest(?, 0))
+            on conflict (user_id, "day") do update
+            set stage_changes = greatest(user_daily_activity.stage_changes + ?, 0),
+                tasks_completed = greatest(user_daily_activity.tasks_completed + ?, 0)
+            """;
+    private static final String GENERIC_MERGE_SQL = """
+            merge into user_daily_activity a
+            using (values (cast(? as uuid), cast(? as date), cast(? as bigint), cast(? as bigint)))
+                as s (user_id, "day", stage_delta, task_delta)
+            on a.user_id = s.user_id and a."day" = s."day"
+            when matched then update set
+                stage_changes = greatest(a.stage_changes + s.stage_delta, 0),
+                tasks_completed = greatest(a.tasks_completed + s.task_delta, 0)
+            when not matched then insert (user_id, "day", stage_changes, tasks_completed)
+                values (s.user_id, s."day", greatest(s.stage_delta, 0), greatest(s.task_delta, 0))
+            """;
+
+    // On a database that predates the rollup table it starts out empty while the history it
+    // summarises already exists.
+    private static final String NEEDS_BACKFILL_SQL = """
+            select exists (select 1 from stage_events)
+               and not exists (select 1 from user_daily_activity)
+            """;
+
+    private static final String REMOVE_APPLICATION_SQL = """
+            update user_daily_activity d
+            set stage_changes = greatest(d.stage_changes - (
+                    select count(*) from stage_events e
+                    where e.application_id = ? and cast(e.created_at as date) = d."day"
+                ), 0),
+                tasks_completed = greatest(d.tasks_completed - (
+                    select count(*) from tasks t
+                    where t.application_id = ? and cast(t.completed_at as date) = d."day"
+                ), 0)
+            where d.user_id = ?
+              and d."day" in (
+                select cast(e.created_at as date) from stage_events e where e.application_id = ?
+                union
+                select cast(t.completed_at as date) from tasks t
+                where t.application_id = ? and t.completed_at is not null
+              )
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserDailyActivityRepository activityRepository;
+    private final StageEventRepository stageEventRepository;
+    private final TaskRepository taskRepository;
+    private final DatabaseDialect dialect;
+
+    public ActivityRollupService(
+            JdbcTemplate jdbcTemplate,
+            UserDailyActivityRepository activityRepository,
+            StageEventRepository stageEventRepository,
+            TaskRepository taskRepository,
+            DatabaseDialect dialect
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.activityRepository = activityRepository;
+        this.stageEventRepository = stageEventRepository;
+        this.taskRepository = taskRepository;
+        this.dialect = dialect;
+    }
+
+    public void recordStageChange(UUID userId, LocalDateTime changedAt) {
+        adjust(userId, changedAt.toLocalDate(), 1, 0);
+    }
+
+    public void recordStageChanges(UUID userId, LocalDateTime changedAt, long count) {
+        adjust(userId, changedAt.toLocalDate(), count, 0);
+    }
+
+    public void recordTaskCompletion(UUID userId, LocalDateTime previousCompletedAt, LocalDateTime completedAt) {
+        if (previousCompletedAt != null) {
+            adjust(userId, previousCompletedAt.toLocalDate(), 0, -1);
+        }
+        if (completedAt != null) {
+            adjust(userId, completedAt.toLocalDate(), 0, 1);
+        }
+    }
+
+    public List<UserDailyActivity> range(UUID userId, LocalDate start, LocalDate end) {
+        return activityRepository.findAllByUserIdAndDayBetween(userId, start, end);
+    }
+
+    public boolean needsBackfill() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(NEEDS_BACKFILL_SQL, Boolean.class));
+    }
+
+    // Takes one application's stage changes and task completions back out of the rollup in a
+    // single statement. Must run before the application's children are deleted.
+    public int removeApplication(UUID userId, Long applicationId) {
+        return jdbcTemplate.update(REMOVE_APPLICATION_SQL,
+                applicationId, applicationId, userId, applicationId, applicationId);
+    }
+
+    // Recomputes the user's rollup from the source tables. Must run in a transaction.
+    public int rebuild(UUID userId) {
+        activityRepository.deleteAllByUserId(userId);
+        Map<LocalDate, UserDailyActivity> days = new TreeMap<>();
+        for (DailyCount count : stageEventRepository.countPerDay(userId, EARLIEST, LATEST)) {
+            day(days, userId, count.getDay()).setStageChanges(count.getTotal());
+        }
+        for (DailyCount count : taskRepository.countCompletedPerDay(userId, EARLIEST, LATEST)) {
+            day(days, userId, count.getDay()).setTasksCompleted(count.getTotal());
+        }
+        activityRepository.saveAll(days.values());
+        return days.size();
+    }
+
+    private void adjust(UUID userId, LocalDate day, long stageDelta, long taskDelta) {
+        Date sqlDay = Date.valueOf(day);
+        if (dialect.isPostgres()) {
+            jdbcTemplate.update(POSTGRES_UPSERT_SQL, userId, sqlDay, stageDelta, taskDelta, stageDelta, taskDelta);
+        } else {
+            jdbcTemplate.update(GENERIC_MERGE_SQL, userId, sqlDay, stageDelta, taskDelta);
+        }
+    }
+
+    private static UserDailyActivity day(Map<LocalDate, UserDailyActivity> days, UUID userId, LocalDate day) {
+        return days.computeIfAbsent(day, ignored -> new UserDailyActivity(userId, day, 0, 0));
+    }
+}
@@ -0,0 +1,259 @@
+package com.dev.backend.service;
+
+import com.dev.backend.dto.ApplicationCreateRequest;
+import com.dev.backend.dto.ApplicationImportResponse;
+import com.dev.backend.dto.ApplicationImportRowResult;
+import com.dev.backend.dto.ErrorDetail;
+import com.dev.backend.model.Stage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+public class ApplicationImportService {
+
+    public static final String STATUS_CREATED = "created";
+    public static final String STATUS_INVALID = "invalid";
+
+    private static final String INSERT_SQL = """
+            insert into applications (company, role, job_url, location, notes, stage, last_touch_at,
+                                      stage_changed_at, user_id, created_at, updated_at, version)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final StageCounterService stageCounterService;
+    private final AuditService auditService;
+    private final DashboardCache dashboardCache;
+    private final int batchSize;
+    private final int maxRows;
+
+    public ApplicationImportService(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            Validator validator,
+            StageCounterService stageCounterService,
+            AuditService auditService,
+            DashboardCache dashboardCache,
+            @Value("${app.import.batch-size:500}") int batchSize,
+            @Value("${app.import.max-rows:10000}") int maxRows
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.stageCounterService = stageCounterService;
+        this.auditService = auditService;
+        this.dashboardCache = dashboardCache;
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+    }
+
+    @Transactional
+    public ApplicationImportResponse importCsv(UUID userId, Reader body) {
+        ImportRun run = new ImportRun(userId);
+        CsvRecordReader csv = new CsvRecordReader(body);
+        try {
+            List<String> header = csv.next();
+            if (header == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV body is empty");
+            }
+            Map<String, Integer> columns = columns(header);
+            List<String> record;
+            while ((record = csv.next()) != null) {
+                run.add(toRequest(record, columns));
+            }
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unreadable CSV: " + ex.getMessage());
+        }
+        return run.finish("csv");
+    }
+
+    @Transactional
+    public ApplicationImportResponse importNdjson(UUID userId, Reader body) {
+        ImportRun run = new ImportRun(userId);
+        BufferedReader lines = new BufferedReader(body);
+        try {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                ApplicationCreateRequest request;
+                try {
+                    request = objectMapper.readValue(line, ApplicationCreateRequest.class);
+                } catch (JsonProcessingException ex) {
+                    run.reject(List.of(new ErrorDetail("row", "Malformed JSON")));
+                    continue;
+                }
+                run.add(request);
+            }
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unreadable NDJSON body");
+        }
+        return run.finish("ndjson");
+    }
+
+    private Map<String, Integer> columns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).toLowerCase(Locale.ROOT).replaceAll("[^a-z]", "");
+            columns.putIfAbsent(name, i);
+        }
+        if (!columns.containsKey("company") || !columns.containsKey("role")) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV header must include company and role");
+        }
+        return columns;
+    }
+
+    private ApplicationCreateRequest toRequest(List<String> record, Map<String, Integer> columns) {
+        ApplicationCreateRequest request = new ApplicationCreateRequest();
+        request.setCompany(value(record, columns, "company"));
+        request.setRole(value(record, columns, "role"));
+        request.setJobUrl(value(record, columns, "joburl"));
+        request.setLocation(value(record, columns, "location"));
+        request.setNotes(value(record, columns, "notes"));
+        return request;
+    }
+
+    private String value(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private final class ImportRun {
+
+        private final UUID userId;
+        private final LocalDateTime now = LocalDateTime.now();
+        private final List<ApplicationImportRowResult> results = new ArrayList<>();
+        private final List<ApplicationCreateRequest> batch = new ArrayList<>();
+        private final List<ApplicationImportRowResult> batchResults = new ArrayList<>();
+        private int imported;
+        private int rejected;
+
+        private ImportRun(UUID userId) {
+            this.userId = userId;
+        }
+
+        void add(ApplicationCreateRequest request) {
+            Set<ConstraintViolation<ApplicationCreateRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                reject(violations.stream()
+                        .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                        .map(violation -> new ErrorDetail(violation.getPropertyPath().toString(), violation.getMessage()))
+                        .collect(Collectors.toList()));
+                return;
+            }
+            ApplicationImportRowResult result = next(STATUS_CREATED, List.of());
+            batch.add(request);
+            batchResults.add(result);
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(List<ErrorDetail> errors) {
+            next(STATUS_INVALID, errors);
+            rejected++;
+        }
+
+        ApplicationImportResponse finish(String format) {
+            flush();
+            if (imported > 0) {
+                // The counter row is locked only here, not while the body is still streaming.
+                stageCounterService.addWritten(userId, Stage.SAVED, imported);
+                dashboardCache.invalidate(userId);
+            }
+            auditService.record(
+                    userId,
+                    "application.imported",
+                    "application",
+                    null,
+                    Map.of("format", format, "imported", imported, "rejected", rejected)
+            );
+            return new ApplicationImportResponse(results.size(), imported, rejected, results);
+        }
+
+        private ApplicationImportRowResult next(String status, List<ErrorDetail> errors) {
+            if (results.size() >= maxRows) {
+                throw new ResponseStatusException(
+                        HttpStatus.PAYLOAD_TOO_LARGE, "Imports are limited to " + maxRows + " rows");
+            }
+            ApplicationImportRowResult result = new ApplicationImportRowResult(results.size() + 1, status, null, errors);
+            results.add(result);
+            return result;
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            Timestamp timestamp = Timestamp.valueOf(now);
+            GeneratedKeyHolder keys = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_SQL, new String[] {"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement statement, int i) throws SQLException {
+                            ApplicationCreateRequest request = batch.get(i);
+                            statement.setString(1, request.getCompany());
+                            statement.setString(2, request.getRole());
+                            statement.setString(3, request.getJobUrl());
+                            statement.setString(4, request.getLocation());
+                            statement.setString(5, request.getNotes());
+                            statement.setString(6, Stage.SAVED.name());
+                            statement.setTimestamp(7, timestamp);
+                            statement.setTimestamp(8, timestamp);
+                            statement.setObject(9, userId);
+                            statement.setTimestamp(10, timestamp);
+                            statement.setTimestamp(11, timestamp);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return batch.size();
+                        }
+                    },
+                    keys
+            );
+            List<Map<String, Object>> generated = keys.getKeyList();
+            for (int i = 0; i < batchResults.size(); i++) {
+                Object id = i < generated.size() ? generated.get(i).get("id") : null;
+                batchResults.get(i).setId(id == null ? null : ((Number) id).longValue());
+            }
+            imported += batch.size();
+            batch.clear();
+            batchResults.clear();
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package com.dev.backend.service;
 
+import com.dev.backend.config.DatabaseDialect;
 import com.dev.backend.dto.ApplicationCreateRequest;
+import com.dev.backend.dto.ApplicationDeleteResponse;
+import com.dev.backend.dto.ApplicationPage;
+import com.dev.backend.dto.ApplicationStageBatchResponse;
+import com.dev.backend.dto.ApplicationStageBatchResult;
 import com.dev.backend.dto.ApplicationUpdateRequest;
 import com.dev.backend.model.Application;
 import com.dev.backend.model.Stage;
@@ -8,10 +13,24 @@ import com.dev.backend.model.StageEvent;
 import com.dev.backend.repository.ApplicationRepository;
 import com.dev.backend.repository.StageEventRepository;
 import com.dev.backend.repository.TaskRepository;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
@@ -20,24 +39,78 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class ApplicationService {
 
+    public static final String STATUS_UPDATED = "updated";
+    public static final String STATUS_UNCHANGED = "unchanged";
+    public static final String STATUS_NOT_FOUND = "not_found";
+    public static final String STATUS_INVALID_TRANSITION = "invalid_transition";
+
+    private static final String INSERT_STAGE_EVENT_SQL = """
+            insert into stage_events (application_id, from_stage, to_stage, actor, created_at)
+            values (?, ?, ?, ?, ?)
+            """;
+    // Ownership, version check, bump and read-back in one statement. A null expected version
+    // matches any row.
+    private static final String UPDATE_SQL = """
+            update applications
+            set company = ?, role = ?, job_url = ?, location = ?, notes = ?,
+                last_touch_at = ?, updated_at = ?, version = version + 1
+            where id = ? and user_id = ? and version = coalesce(cast(? as bigint), version)
+            """;
+    private static final String RETURNED_COLUMNS = """
+            id, company, role, job_url, location, notes, stage, last_touch_at, stage_changed_at,
+            user_id, created_at, updated_at, version
+            """;
+    private static final RowMapper<Application> APPLICATION_ROW_MAPPER = (resultSet, rowNum) -> new Application(
+            resultSet.getLong("id"),
+            resultSet.getString("company"),
+            resultSet.getString("role"),
+            resultSet.getString("job_url"),
+            resultSet.getString("location"),
+            resultSet.getString("notes"),
+            Stage.valueOf(resultSet.getString("stage")),
+            resultSet.getObject("last_touch_at", LocalDateTime.class),
+            resultSet.getObject("stage_changed_at", LocalDateTime.class),
+            resultSet.getObject("user_id", UUID.class),
+            resultSet.getObject("created_at", LocalDateTime.class),
+            resultSet.getObject("updated_at", LocalDateTime.class),
+            resultSet.getLong("version")
+    );
+
     private final ApplicationRepository applicationRepository;
     private final StageEventRepository stageEventRepository;
     private final TaskRepository taskRepository;
     private final AuditService auditService;
+    private final DashboardCache dashboardCache;
+    private final StageCounterService stageCounterService;
+    private final ActivityRollupService activityRollupService;
+    private final JdbcTemplate jdbcTemplate;
+    private final String updateSql;
 
     public ApplicationService(
             ApplicationRepository applicationRepository,
             StageEventRepository stageEventRepository,
             TaskRepository taskRepository,
-            AuditService auditService
+            AuditService auditService,
+            DashboardCache dashboardCache,
+            StageCounterService stageCounterService,
+            ActivityRollupService activityRollupService,
+            JdbcTemplate jdbcTemplate,
+            DatabaseDialect dialect
     ) {
         this.applicationRepository = applicationRepository;
         this.stageEventRepository = stageEventRepository;
         this.taskRepository = taskRepository;
         this.auditService = auditService;
+        this.dashboardCache = dashboardCache;
+        this.stageCounterService = stageCounterService;
+        this.activityRollupService = activityRollupService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.updateSql = dialect.returning(UPDATE_SQL, RETURNED_COLUMNS);
     }
 
+    @Transactional
     public Application create(UUID userId, ApplicationCreateRequest request) {
+        stageCounterService.increment(userId, Stage.SAVED);
         Application application = new Application();
         application.setCompany(request.getCompany());
         application.setRole(request.getRole());
@@ -47,7 +120,9 @@ public class ApplicationService {
         application.setStage(Stage.SAVED);
         application.setLastTouchAt(LocalDateTime.now());
         application.setUserId(userId);
-        return applicationRepository.save(application);
+        Application saved = applicationRepository.save(application);
+        dashboardCache.invalidate(userId);
+        return saved;
     }
 
     public List<Application> list(UUID userId, Stage stage) {
@@ -58,31 +133,78 @@ public class ApplicationService {
         return applicationRepository.findAllByUserIdAndStage(userId, stage, sort);
     }
 
+    public ApplicationPage listPage(UUID userId, Stage stage, String cursor, int size) {
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<Application> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = applicationRepository.findFirstPage(userId, stage, limit);
+        } else {
+            Application position = decodeCursor(cursor);
+            rows = applicationRepository.findPageAfter(
+                    userId,
+                    stage,
+                    position.getLastTouchAt(),
+                    position.getId(),
+                    limit
+            );
+        }
+        if (rows.size() <= size) {
+            return new ApplicationPage(rows, null);
+        }
+        List<Application> items = rows.subList(0, size);
+        return new ApplicationPage(items, encodeCursor(items.get(size - 1)));
+    }
+
     public List<Application> listStale(UUID userId, int days) {
         LocalDateTime cutoff = LocalDateTime.now().minusDays(days);
         Sort sort = Sort.by(Sort.Direction.ASC, "lastTouchAt");
         return applicationRepository.findAllByUserIdAndLastTouchAtBefore(userId, cutoff, sort);
     }
 
-    public Application update(UUID userId, Long applicationId, ApplicationUpdateRequest request) {
-        Application application = applicationRepository.findByIdAndUserId(applicationId, userId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found"));
-        application.setCompany(request.getCompany());
-        application.setRole(request.getRole());
-        application.setJobUrl(request.getJobUrl());
-        application.setLocation(request.getLocation());
-        application.setNotes(request.getNotes());
-        application.setLastTouchAt(LocalDateTime.now());
-        return applicationRepository.save(application);
+    // A single UPDATE that returns the new row, so no SELECT goes before it. With an expected
+    // version the write only lands if nobody has changed the application since; otherwise 412.
+    public Application update(UUID userId, Long applicationId, Long expectedVersion, ApplicationUpdateRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Application> updated = jdbcTemplate.query(
+                updateSql,
+                APPLICATION_ROW_MAPPER,
+                request.getCompany(),
+                request.getRole(),
+                request.getJobUrl(),
+                request.getLocation(),
+                request.getNotes(),
+                Timestamp.valueOf(now),
+                Timestamp.valueOf(now),
+                applicationId,
+                userId,
+                expectedVersion
+        );
+        if (updated.isEmpty()) {
+            // Only a failed write pays for this lookup, to tell a stale version from a missing row.
+            if (expectedVersion != null && applicationRepository.existsByIdAndUserId(applicationId, userId)) {
+                throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Application was modified");
+            }
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found");
+        }
+        dashboardCache.invalidate(userId);
+        return updated.get(0);
     }
 
+    // A fixed number of statements however many tasks and events the application has; every
+    // delete checks ownership itself rather than trusting the lookup.
     @Transactional
-    public void delete(UUID userId, Long applicationId) {
-        Application application = applicationRepository.findByIdAndUserId(applicationId, userId)
+    public ApplicationDeleteResponse delete(UUID userId, Long applicationId) {
+        Stage stage = applicationRepository.findStageByIdAndUserId(applicationId, userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found"));
-        taskRepository.deleteAllByApplicationIdAndApplicationUserId(applicationId, userId);
-        stageEventRepository.deleteAllByApplicationIdAndApplicationUserId(applicationId, userId);
-        applicationRepository.delete(application);
+        stageCounterService.decrement(userId, stage);
+        activityRollupService.removeApplication(userId, applicationId);
+        int tasksDeleted = taskRepository.deleteAllByApplicationIdAndApplicationUserId(applicationId, userId);
+        int stageEventsDeleted = stageEventRepository.deleteAllByApplicationIdAndApplicationUserId(applicationId, userId);
+        if (applicationRepository.deleteByIdAndUserId(applicationId, userId) == 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found");
+        }
+        dashboardCache.invalidate(userId);
+        return new ApplicationDeleteResponse(applicationId, tasksDeleted, stageEventsDeleted);
     }
 
     public List<StageEvent> listStageEvents(UUID userId, Long applicationId) {
@@ -92,38 +214,132 @@ public class ApplicationService {
     }
 
     @Transactional
-    public Application transitionStage(UUID userId, Long applicationId, Stage nextStage) {
+    public Application transitionStage(UUID userId, Long applicationId, Long expectedVersion, Stage nextStage) {
         Application application = applicationRepository.findByIdAndUserId(applicationId, userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found"));
+        if (expectedVersion != null && !expectedVersion.equals(application.getVersion())) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Application was modified");
+        }
         Stage currentStage = application.getStage();
         if (currentStage == nextStage) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Stage is already set");
         }
+        if (!currentStage.canTransitionTo(nextStage)) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "Cannot move from " + currentStage + " to " + nextStage);
+        }
+        stageCounterService.move(userId, currentStage, nextStage);
         LocalDateTime now = LocalDateTime.now();
-        application.setStage(nextStage);
-        application.setLastTouchAt(now);
-        application.setStageChangedAt(now);
-        Application saved = applicationRepository.save(application);
+        // The row read above is only a hint; the update itself decides who wins a race.
+        if (applicationRepository.transition(
+                applicationId, userId, currentStage, expectedVersion, nextStage, now) == 0) {
+            throw expectedVersion != null
+                    ? new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Application was modified")
+                    : new ResponseStatusException(HttpStatus.CONFLICT, "Application changed concurrently");
+        }
+        // Without If-Match an edit may have landed between the read and the update, so the row is
+        // read back rather than patched up from the copy above.
+        application = applicationRepository.findByIdAndUserId(applicationId, userId).orElseThrow();
 
         StageEvent event = new StageEvent();
-        event.setApplication(saved);
+        event.setApplication(applicationRepository.getReferenceById(applicationId));
         event.setFromStage(currentStage);
         event.setToStage(nextStage);
         event.setActor("user:" + userId);
         stageEventRepository.save(event);
+        activityRollupService.recordStageChange(userId, now);
 
         auditService.record(
                 userId,
                 "application.stage_changed",
                 "application",
-                saved.getId(),
+                application.getId(),
                 java.util.Map.of(
                         "fromStage", currentStage,
                         "toStage", nextStage,
                         "actor", "user:" + userId
                 )
         );
+        dashboardCache.invalidate(userId);
 
-        return saved;
+        return application;
+    }
+
+    // Moves many applications to one stage in a single transaction: one ownership-checked SELECT,
+    // one conditional UPDATE per source stage, and batched inserts for stage and audit events.
+    // Items that are missing or can't make the transition are reported and skipped; if a row
+    // changes stage underneath us the whole batch rolls back with 409.
+    @Transactional
+    public ApplicationStageBatchResponse transitionStages(UUID userId, List<Long> ids, Stage nextStage) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        Map<Long, Stage> currentStages = new HashMap<>();
+        applicationRepository.findStagesByUserIdAndIdIn(userId, requested)
+                .forEach(row -> currentStages.put(row.getId(), row.getStage()));
+
+        List<ApplicationStageBatchResult> results = new ArrayList<>(requested.size());
+        Map<Stage, List<Long>> bySource = new EnumMap<>(Stage.class);
+        for (Long id : requested) {
+            Stage currentStage = currentStages.get(id);
+            String status;
+            if (currentStage == null) {
+                status = STATUS_NOT_FOUND;
+            } else if (currentStage == nextStage) {
+                status = STATUS_UNCHANGED;
+            } else if (!currentStage.canTransitionTo(nextStage)) {
+                status = STATUS_INVALID_TRANSITION;
+            } else {
+                status = STATUS_UPDATED;
+                bySource.computeIfAbsent(currentStage, stage -> new ArrayList<>()).add(id);
+            }
+            results.add(new ApplicationStageBatchResult(id, status, currentStage));
+        }
+        int updated = bySource.values().stream().mapToInt(List::size).sum();
+        if (updated == 0) {
+            return new ApplicationStageBatchResponse(nextStage, 0, results.size(), results);
+        }
+
+        Map<Stage, Long> moved = new EnumMap<>(Stage.class);
+        bySource.forEach((from, group) -> moved.put(from, (long) group.size()));
+        stageCounterService.moveAll(userId, moved, nextStage);
+        LocalDateTime now = LocalDateTime.now();
+        String actor = "user:" + userId;
+        List<Object[]> stageEvents = new ArrayList<>(updated);
+        Map<Long, Object> auditPayloads = new LinkedHashMap<>();
+        for (Map.Entry<Stage, List<Long>> group : bySource.entrySet()) {
+            Stage from = group.getKey();
+            if (applicationRepository.transitionAll(userId, group.getValue(), from, nextStage, now) != group.getValue().size()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Applications changed stage concurrently");
+            }
+            for (Long id : group.getValue()) {
+                stageEvents.add(new Object[] {id, from.name(), nextStage.name(), actor, Timestamp.valueOf(now)});
+                auditPayloads.put(id, Map.of("fromStage", from, "toStage", nextStage, "actor", actor));
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_STAGE_EVENT_SQL, stageEvents);
+        activityRollupService.recordStageChanges(userId, now, updated);
+        auditService.recordAll(userId, "application.stage_changed", "application", auditPayloads);
+        dashboardCache.invalidate(userId);
+        return new ApplicationStageBatchResponse(nextStage, updated, results.size() - updated, results);
+    }
+
+    private String encodeCursor(Application last) {
+        String raw = last.getLastTouchAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Application decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Missing separator");
+            }
+            Application position = new Application();
+            position.setLastTouchAt(LocalDateTime.parse(raw.substring(0, separator)));
+            position.setId(Long.parseLong(raw.substring(separator + 1)));
+            return position;
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
     }
 }
@@ -0,0 +1,249 @@
+package com.dev.backend.service;
+
+import com.dev.backend.model.AuditEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AuditEventWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditEventWriter.class);
+    private static final String INSERT_SQL = """
+            insert into audit_events (user_id, event_type, entity_type, entity_id, payload, correlation_id, created_at)
+            values (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<AuditEvent> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutMillis;
+    private final long shutdownTimeoutMillis;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong discarded = new AtomicLong();
+
+    // Accounts being deleted. Their events are thrown away instead of written after the
+    // account's audit rows are gone; the entry outlives anything queued before the delete.
+    private final Cache<UUID, Boolean> discardedUsers = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .build();
+    private final Object writeLock = new Object();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AuditEventWriter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.audit.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.audit.batch-size:100}") int batchSize,
+            @Value("${app.audit.flush-interval-millis:200}") long flushIntervalMillis,
+            @Value("${app.audit.offer-timeout-millis:20}") long offerTimeoutMillis,
+            @Value("${app.audit.shutdown-timeout-millis:10000}") long shutdownTimeoutMillis
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "audit-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        try {
+            worker.join(shutdownTimeoutMillis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive() || !queue.isEmpty()) {
+            log.warn("Audit writer stopped with {} events still queued", queue.size());
+        }
+    }
+
+    public boolean enqueue(AuditEvent event) {
+        boolean accepted;
+        try {
+            accepted = queue.offer(event, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (!accepted) {
+            long total = dropped.incrementAndGet();
+            log.warn("Audit queue full, dropped event type={} totalDropped={}", event.getEventType(), total);
+            return false;
+        }
+        enqueued.incrementAndGet();
+        return true;
+    }
+
+    public boolean flush(Duration timeout) {
+        long target = enqueued.get();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (written.get() + failed.get() + discarded.get() < target) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Drops the user's queued events and any the worker already holds, and waits for a batch
+    // that is being written right now, so deleting the user's audit rows afterwards is final.
+    public void discard(UUID userId) {
+        discardedUsers.put(userId, Boolean.TRUE);
+        queue.removeIf(this::isDiscarded);
+        synchronized (writeLock) {
+            // Nothing to do; holding the lock only waits out an insert already in progress.
+        }
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    public long enqueuedCount() {
+        return enqueued.get();
+    }
+
+    public long writtenCount() {
+        return written.get();
+    }
+
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    public long failedCount() {
+        return failed.get();
+    }
+
+    public long discardedCount() {
+        return discarded.get();
+    }
+
+    private void drainLoop() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        long deadline = 0;
+        while (running || !queue.isEmpty() || !batch.isEmpty()) {
+            try {
+                if (batch.isEmpty()) {
+                    AuditEvent first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    deadline = System.nanoTime() + flushIntervalNanos;
+                }
+                queue.drainTo(batch, batchSize - batch.size());
+                long remaining = deadline - System.nanoTime();
+                if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                    write(batch);
+                    batch.clear();
+                    continue;
+                }
+                AuditEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (next != null) {
+                    batch.add(next);
+                }
+            } catch (InterruptedException ex) {
+                running = false;
+            } catch (RuntimeException ex) {
+                // Retrying the same batch would most likely fail the same way forever.
+                failed.addAndGet(batch.size());
+                log.error("Audit writer loop failed, dropping {} events", batch.size(), ex);
+                batch.clear();
+            }
+        }
+    }
+
+    // Writes the events in one JDBC batch on the calling thread, inside its transaction if any.
+    public void insert(List<AuditEvent> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                AuditEvent event = batch.get(i);
+                ps.setObject(1, event.getUserId());
+                ps.setString(2, event.getEventType());
+                ps.setString(3, event.getEntityType());
+                if (event.getEntityId() == null) {
+                    ps.setNull(4, Types.BIGINT);
+                } else {
+                    ps.setLong(4, event.getEntityId());
+                }
+                ps.setString(5, event.getPayload());
+                ps.setString(6, event.getCorrelationId());
+                ps.setTimestamp(7, Timestamp.valueOf(event.getCreatedAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return batch.size();
+            }
+        });
+    }
+
+    private void write(List<AuditEvent> batch) {
+        synchronized (writeLock) {
+            batch.removeIf(this::isDiscarded);
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                insert(batch);
+                written.addAndGet(batch.size());
+            } catch (DataAccessException ex) {
+                failed.addAndGet(batch.size());
+                log.error("Failed to write {} audit events", batch.size(), ex);
+            }
+        }
+    }
+
+    private boolean isDiscarded(AuditEvent event) {
+        if (event.getUserId() == null || discardedUsers.getIfPresent(event.getUserId()) == null) {
+            return false;
+        }
+        discarded.incrementAndGet();
+        return true;
+    }
+}
@@ -5,33 +5,79 @@ import com.dev.backend.repository.AuditEventRepository;
 import com.dev.backend.web.RequestCorrelation;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 public class AuditService {
 
     private final AuditEventRepository auditEventRepository;
     private final ObjectMapper objectMapper;
+    private final AuditEventWriter auditEventWriter;
+    private final boolean async;
 
-    public AuditService(AuditEventRepository auditEventRepository, ObjectMapper objectMapper) {
+    public AuditService(
+            AuditEventRepository auditEventRepository,
+            ObjectMapper objectMapper,
+            AuditEventWriter auditEventWriter,
+            @Value("${app.audit.async:true}") boolean async
+    ) {
         this.auditEventRepository = auditEventRepository;
         this.objectMapper = objectMapper;
+        this.auditEventWriter = auditEventWriter;
+        this.async = async;
     }
 
     public void record(UUID userId, String type, String entityType, Long entityId, Object payload) {
-        AuditEvent event = new AuditEvent();
-        event.setUserId(userId);
-        event.setEventType(type);
-        event.setEntityType(entityType);
-        event.setEntityId(entityId);
-        event.setPayload(toJson(payload));
-        event.setCorrelationId(MDC.get(RequestCorrelation.MDC_KEY));
-        auditEventRepository.save(event);
+        AuditEvent event = newEvent(userId, type, entityType, entityId, payload);
+        if (!async) {
+            auditEventRepository.save(event);
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    auditEventWriter.enqueue(event);
+                }
+            });
+            return;
+        }
+        auditEventWriter.enqueue(event);
+    }
+
+    // One event per entity id. Without the async writer they go out as a single JDBC batch.
+    public void recordAll(UUID userId, String type, String entityType, Map<Long, ?> payloads) {
+        List<AuditEvent> events = new ArrayList<>(payloads.size());
+        payloads.forEach((entityId, payload) -> events.add(newEvent(userId, type, entityType, entityId, payload)));
+        if (events.isEmpty()) {
+            return;
+        }
+        if (!async) {
+            auditEventWriter.insert(events);
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    events.forEach(auditEventWriter::enqueue);
+                }
+            });
+            return;
+        }
+        events.forEach(auditEventWriter::enqueue);
     }
 
     public Page<AuditEvent> listForUser(UUID userId, int page, int size) {
@@ -43,7 +89,19 @@ public class AuditService {
         return auditEventRepository.findAllByUserId(userId, pageRequest);
     }
 
-    private String toJson(Object payload) {
+    private AuditEvent newEvent(UUID userId, String type, String entityType, Long entityId, Object payload) {
+        AuditEvent event = new AuditEvent();
+        event.setUserId(userId);
+        event.setEventType(type);
+        event.setEntityType(entityType);
+        event.setEntityId(entityId);
+        event.setPayload(toJson(payload));
+        event.setCorrelationId(MDC.get(RequestCorrelation.MDC_KEY));
+        event.setCreatedAt(LocalDateTime.now());
+        return event;
+    }
+
+    String toJson(Object payload) {
         if (payload == null) {
             return null;
         }
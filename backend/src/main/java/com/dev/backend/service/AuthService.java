@@ -15,13 +15,18 @@ import com.dev.backend.repository.ApplicationRepository;
 import com.dev.backend.repository.TaskRepository;
 import com.dev.backend.repository.StageEventRepository;
 import com.dev.backend.repository.AuditEventRepository;
+import com.dev.backend.repository.UserDailyActivityRepository;
+import com.dev.backend.repository.UserStageCounterRepository;
 import com.dev.backend.security.TotpService;
+import com.dev.backend.security.VerifiedTokenCache;
 import java.security.MessageDigest;
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.Base64;
 import java.util.HexFormat;
 import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -32,6 +37,8 @@ import org.springframework.web.server.ResponseStatusException;
 @Service
 public class AuthService {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthService.class);
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
@@ -42,12 +49,19 @@ public class AuthService {
     private final TaskRepository taskRepository;
     private final StageEventRepository stageEventRepository;
     private final AuditEventRepository auditEventRepository;
+    private final UserStageCounterRepository userStageCounterRepository;
+    private final UserDailyActivityRepository userDailyActivityRepository;
     private final TotpService totpService;
+    private final DashboardCache dashboardCache;
+    private final AuditEventWriter auditEventWriter;
+    private final AccountPurgeJob accountPurgeJob;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final boolean requireEmailVerified;
     private final boolean returnTokens;
     private final long emailVerificationHours;
     private final long passwordResetMinutes;
     private final long refreshTokenDays;
+    private final long accountDeletionSyncMaxApplications;
     private final SecureRandom secureRandom = new SecureRandom();
 
     public AuthService(
@@ -61,12 +75,19 @@ public class AuthService {
             TaskRepository taskRepository,
             StageEventRepository stageEventRepository,
             AuditEventRepository auditEventRepository,
+            UserStageCounterRepository userStageCounterRepository,
+            UserDailyActivityRepository userDailyActivityRepository,
             TotpService totpService,
+            DashboardCache dashboardCache,
+            AuditEventWriter auditEventWriter,
+            AccountPurgeJob accountPurgeJob,
+            VerifiedTokenCache verifiedTokenCache,
             @Value("${app.auth.require-email-verified:false}") boolean requireEmailVerified,
             @Value("${app.auth.return-tokens:true}") boolean returnTokens,
             @Value("${app.auth.email-verification-expiration-hours:24}") long emailVerificationHours,
             @Value("${app.auth.password-reset-expiration-minutes:30}") long passwordResetMinutes,
-            @Value("${app.auth.refresh-token-expiration-days:30}") long refreshTokenDays
+            @Value("${app.auth.refresh-token-expiration-days:30}") long refreshTokenDays,
+            @Value("${app.account-deletion.sync-max-applications:200}") long accountDeletionSyncMaxApplications
     ) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
@@ -78,12 +99,19 @@ public class AuthService {
         this.taskRepository = taskRepository;
         this.stageEventRepository = stageEventRepository;
         this.auditEventRepository = auditEventRepository;
+        this.userStageCounterRepository = userStageCounterRepository;
+        this.userDailyActivityRepository = userDailyActivityRepository;
         this.totpService = totpService;
+        this.dashboardCache = dashboardCache;
+        this.auditEventWriter = auditEventWriter;
+        this.accountPurgeJob = accountPurgeJob;
+        this.verifiedTokenCache = verifiedTokenCache;
         this.requireEmailVerified = requireEmailVerified;
         this.returnTokens = returnTokens;
         this.emailVerificationHours = emailVerificationHours;
         this.passwordResetMinutes = passwordResetMinutes;
         this.refreshTokenDays = refreshTokenDays;
+        this.accountDeletionSyncMaxApplications = accountDeletionSyncMaxApplications;
     }
 
     public AuthResponse signup(AuthRequest request) {
@@ -124,10 +152,18 @@ public class AuthService {
         return buildAuthResponse(user, true);
     }
 
+    // Rotation retires the presented token with a conditional UPDATE and issues its successor in
+    // the same transaction. A token that was already retired means it was replayed (or raced),
+    // so the whole family is revoked; noRollbackFor keeps that revocation when the 401 is thrown.
+    @Transactional(noRollbackFor = ResponseStatusException.class)
     public AuthResponse refresh(String refreshToken) {
-        RefreshToken stored = findValidRefreshToken(refreshToken);
-        if (stored.getExpiresAt().isBefore(LocalDateTime.now())) {
-            revokeRefreshToken(stored);
+        RefreshToken stored = findRefreshToken(refreshToken);
+        LocalDateTime now = LocalDateTime.now();
+        if (stored.getRevokedAt() != null) {
+            throw revokeReusedFamily(stored, now);
+        }
+        if (stored.getExpiresAt().isBefore(now)) {
+            refreshTokenRepository.revokeIfActive(stored.getId(), now);
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token expired");
         }
 
@@ -138,13 +174,19 @@ public class AuthService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Email not verified");
         }
 
-        revokeRefreshToken(stored);
-        return buildAuthResponse(user, true);
+        if (refreshTokenRepository.revokeIfActive(stored.getId(), now) == 0) {
+            throw revokeReusedFamily(stored, now);
+        }
+        return buildAuthResponse(user, stored.getFamilyId());
     }
 
+    @Transactional
     public void logout(String refreshToken) {
-        RefreshToken stored = findValidRefreshToken(refreshToken);
-        revokeRefreshToken(stored);
+        RefreshToken stored = findRefreshToken(refreshToken);
+        if (stored.getRevokedAt() != null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token");
+        }
+        refreshTokenRepository.revokeFamily(stored.getFamilyId(), LocalDateTime.now());
     }
 
     public String requestEmailVerification(String email) {
@@ -244,8 +286,11 @@ public class AuthService {
         userRepository.save(user);
     }
 
+    // Small accounts are removed here with one bulk statement per table. Larger ones are
+    // tombstoned and handed to AccountPurgeJob so the request never holds a long transaction.
+    // Returns true when the purge was deferred.
     @Transactional
-    public void deleteAccount(UUID userId, String password) {
+    public boolean deleteAccount(UUID userId, String password) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
         if (!passwordEncoder.matches(password, user.getPasswordHash())) {
@@ -254,24 +299,45 @@ public class AuthService {
         refreshTokenRepository.deleteAllByUserId(userId);
         emailVerificationTokenRepository.deleteAllByUserId(userId);
         passwordResetTokenRepository.deleteAllByUserId(userId);
-        taskRepository.deleteAllByApplicationUserId(userId);
-        stageEventRepository.deleteAllByApplicationUserId(userId);
-        applicationRepository.deleteAllByUserId(userId);
-        auditEventRepository.deleteAllByUserId(userId);
-        userRepository.deleteById(userId);
+        boolean deferred = user.getDeletedAt() != null
+                || applicationRepository.countByUserId(userId) > accountDeletionSyncMaxApplications;
+        if (deferred) {
+            if (user.getDeletedAt() == null) {
+                // Releases the email right away so it can sign up again while the data is purged.
+                user.setDeletedAt(LocalDateTime.now());
+                user.setEmail("deleted+" + userId + "@deleted.invalid");
+                userRepository.save(user);
+            }
+            accountPurgeJob.enqueueAfterCommit(userId);
+        } else {
+            taskRepository.deleteAllByApplicationUserId(userId);
+            stageEventRepository.deleteAllByApplicationUserId(userId);
+            applicationRepository.deleteAllByUserId(userId);
+            auditEventWriter.discard(userId);
+            auditEventRepository.deleteAllByUserId(userId);
+            userStageCounterRepository.deleteAllByUserId(userId);
+            userDailyActivityRepository.deleteAllByUserId(userId);
+            userRepository.delete(user);
+        }
+        dashboardCache.invalidate(userId);
+        verifiedTokenCache.invalidateUser(userId);
+        return deferred;
     }
-    
 
     private String normalizeEmail(String email) {
         return email == null ? "" : email.trim().toLowerCase();
     }
 
     private AuthResponse buildAuthResponse(User user, boolean issueTokens) {
+        return issueTokens ? buildAuthResponse(user, UUID.randomUUID()) : buildAuthResponse(user, null);
+    }
+
+    private AuthResponse buildAuthResponse(User user, UUID refreshFamilyId) {
         String accessToken = null;
         String refreshToken = null;
-        if (issueTokens) {
+        if (refreshFamilyId != null) {
             accessToken = jwtService.generateToken(user);
-            refreshToken = createRefreshToken(user);
+            refreshToken = createRefreshToken(user, refreshFamilyId);
         }
         return new AuthResponse(
                 user.getId(),
@@ -330,27 +396,30 @@ public class AuthService {
         }).orElse(null);
     }
 
-    private String createRefreshToken(User user) {
+    private String createRefreshToken(User user, UUID familyId) {
         String raw = generateToken();
         RefreshToken token = new RefreshToken();
         token.setUserId(user.getId());
+        token.setFamilyId(familyId);
         token.setTokenHash(hashToken(raw));
         token.setExpiresAt(LocalDateTime.now().plusDays(refreshTokenDays));
         refreshTokenRepository.save(token);
         return raw;
     }
 
-    private RefreshToken findValidRefreshToken(String rawToken) {
+    private RefreshToken findRefreshToken(String rawToken) {
         if (rawToken == null || rawToken.isBlank()) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token required");
         }
-        return refreshTokenRepository.findByTokenHashAndRevokedAtIsNull(hashToken(rawToken))
+        return refreshTokenRepository.findByTokenHash(hashToken(rawToken))
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token"));
     }
 
-    private void revokeRefreshToken(RefreshToken token) {
-        token.setRevokedAt(LocalDateTime.now());
-        refreshTokenRepository.save(token);
+    private ResponseStatusException revokeReusedFamily(RefreshToken token, LocalDateTime now) {
+        int revoked = refreshTokenRepository.revokeFamily(token.getFamilyId(), now);
+        log.warn("Refresh token reuse for user {}; revoked {} tokens in family {}",
+                token.getUserId(), revoked, token.getFamilyId());
+        return new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token reused");
     }
 
     private String generateToken() {
@@ -359,7 +428,7 @@ public class AuthService {
         return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
     }
 
-    private String hashToken(String token) {
+    String hashToken(String token) {
         try {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
             byte[] hashed = digest.digest(token.getBytes(java.nio.charset.StandardCharsets.UTF_8));
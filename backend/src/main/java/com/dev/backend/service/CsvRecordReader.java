@@ -0,0 +1,93 @@
+package com.dev.backend.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// Minimal RFC 4180 reader that pulls one record at a time from the underlying reader, so
+// large uploads are never held in memory. Quoted fields may contain commas, doubled quotes
+// and line breaks.
+class CsvRecordReader {
+
+    private final Reader reader;
+    private int pending = -2;
+    private long line = 1;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    List<String> next() throws IOException {
+        int ch = read();
+        if (ch == 0xFEFF) {
+            ch = read();
+        }
+        while (ch == '\r' || ch == '\n') {
+            endLine(ch);
+            ch = read();
+        }
+        if (ch == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (ch == -1) {
+                    throw new IOException("Unterminated quoted field at line " + line);
+                }
+                if (ch == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        ch = following;
+                        continue;
+                    }
+                } else {
+                    if (ch == '\n') {
+                        line++;
+                    }
+                    field.append((char) ch);
+                }
+            } else if (ch == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\r' || ch == '\n' || ch == -1) {
+                fields.add(field.toString());
+                if (ch != -1) {
+                    endLine(ch);
+                }
+                return fields;
+            } else {
+                field.append((char) ch);
+            }
+            ch = read();
+        }
+    }
+
+    private void endLine(int ch) throws IOException {
+        line++;
+        if (ch == '\r') {
+            int following = read();
+            if (following != '\n') {
+                pending = following;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (pending != -2) {
+            int ch = pending;
+            pending = -2;
+            return ch;
+        }
+        return reader.read();
+    }
+}
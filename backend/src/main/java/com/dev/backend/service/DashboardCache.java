@@ -0,0 +1,89 @@
+package com.dev.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class DashboardCache {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final Cache<Key, Object> entries;
+    // Bumped on every invalidation of a user in the stripe; a load that saw a different value
+    // when it started may have read data from before the write and is not kept.
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final boolean enabled;
+
+    public DashboardCache(
+            @Value("${app.dashboard.cache.enabled:true}") boolean enabled,
+            @Value("${app.dashboard.cache.max-entries:50000}") long maxEntries,
+            @Value("${app.dashboard.cache.ttl-seconds:30}") long ttlSeconds
+    ) {
+        this.enabled = enabled;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(UUID userId, String section, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        Key key = new Key(userId, section);
+        int stripe = stripe(userId);
+        long generation = generations.get(stripe);
+        T value = (T) entries.get(key, ignored -> loader.get());
+        // An invalidation that ran while this was loading could not see the key yet.
+        if (value != null && generations.get(stripe) != generation) {
+            entries.asMap().remove(key, value);
+        }
+        return value;
+    }
+
+    public void invalidate(UUID userId) {
+        if (userId == null) {
+            return;
+        }
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    public CacheStats stats() {
+        return entries.stats();
+    }
+
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    private void evict(UUID userId) {
+        generations.incrementAndGet(stripe(userId));
+        entries.asMap().keySet().removeIf(key -> key.userId().equals(userId));
+    }
+
+    private static int stripe(UUID userId) {
+        return userId.hashCode() & (GENERATION_STRIPES - 1);
+    }
+
+    private record Key(UUID userId, String section) {
+    }
+}
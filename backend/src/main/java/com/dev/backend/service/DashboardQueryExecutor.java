@@ -0,0 +1,97 @@
+package com.dev.backend.service;
+
+import com.dev.backend.metrics.RequestQueryStats;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Runs independent dashboard queries side by side. Uses virtual threads when they are enabled
+// and available, otherwise a small fixed pool whose overflow runs on the calling thread. Either
+// way at most max-concurrency sections are in flight, and the caller's MDC and query stats
+// are carried over so log lines keep their correlation id and DB work counts toward the request.
+@Component
+public class DashboardQueryExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardQueryExecutor.class);
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+
+    public DashboardQueryExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${app.dashboard.fan-out.max-concurrency:16}") int maxConcurrency
+    ) {
+        this.permits = new Semaphore(maxConcurrency);
+        ExecutorService virtual = virtualThreads ? newVirtualThreadExecutor() : null;
+        this.executor = virtual != null ? virtual : newPlatformExecutor(maxConcurrency);
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        RequestQueryStats queryStats = RequestQueryStats.current();
+        return CompletableFuture.supplyAsync(() -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            RequestQueryStats previousQueryStats = RequestQueryStats.bind(queryStats);
+            permits.acquireUninterruptibly();
+            try {
+                if (context != null) {
+                    MDC.setContextMap(context);
+                }
+                return task.get();
+            } finally {
+                permits.release();
+                RequestQueryStats.bind(previousQueryStats);
+                if (previous != null) {
+                    MDC.setContextMap(previous);
+                } else {
+                    MDC.clear();
+                }
+            }
+        }, executor);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private static ExecutorService newPlatformExecutor(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                60,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * 16),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-query-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    // Built against Java 17, so the Java 21 factory is looked up at runtime.
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            log.warn("Virtual threads unavailable; dashboard queries use a platform thread pool");
+            return null;
+        }
+    }
+}
@@ -2,22 +2,25 @@ package com.dev.backend.service;
 
 import com.dev.backend.dto.DashboardActivityPoint;
 import com.dev.backend.dto.DashboardActivityResponse;
+import com.dev.backend.dto.DashboardBootstrapResponse;
 import com.dev.backend.dto.DashboardNextActionsResponse;
 import com.dev.backend.dto.DashboardSummaryResponse;
 import com.dev.backend.dto.ApplicationResponse;
 import com.dev.backend.dto.TaskResponse;
 import com.dev.backend.model.Stage;
-import com.dev.backend.model.StageEvent;
-import com.dev.backend.model.Task;
+import com.dev.backend.model.UserDailyActivity;
 import com.dev.backend.repository.ApplicationRepository;
-import com.dev.backend.repository.StageEventRepository;
 import com.dev.backend.repository.TaskRepository;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
@@ -27,30 +30,90 @@ public class DashboardService {
 
     private final ApplicationRepository applicationRepository;
     private final TaskRepository taskRepository;
-    private final StageEventRepository stageEventRepository;
+    private final ActivityRollupService activityRollupService;
+    private final StageCounterService stageCounterService;
+    private final DashboardCache dashboardCache;
+    private final DashboardQueryExecutor queryExecutor;
 
     public DashboardService(
             ApplicationRepository applicationRepository,
             TaskRepository taskRepository,
-            StageEventRepository stageEventRepository
+            ActivityRollupService activityRollupService,
+            StageCounterService stageCounterService,
+            DashboardCache dashboardCache,
+            DashboardQueryExecutor queryExecutor
     ) {
         this.applicationRepository = applicationRepository;
         this.taskRepository = taskRepository;
-        this.stageEventRepository = stageEventRepository;
+        this.activityRollupService = activityRollupService;
+        this.stageCounterService = stageCounterService;
+        this.dashboardCache = dashboardCache;
+        this.queryExecutor = queryExecutor;
     }
 
     public DashboardSummaryResponse summary(UUID userId) {
-        Map<Stage, Long> stageCounts = new EnumMap<>(Stage.class);
-        applicationRepository.countByStage(userId).forEach(count -> stageCounts.put(count.getStage(), count.getTotal()));
-        for (Stage stage : Stage.values()) {
-            stageCounts.putIfAbsent(stage, 0L);
+        return dashboardCache.get(userId, "summary", () -> loadSummary(userId));
+    }
+
+    public List<ApplicationResponse> staleApplications(UUID userId, int days) {
+        return dashboardCache.get(userId, "stale:" + days, () -> loadStaleApplications(userId, days));
+    }
+
+    public DashboardNextActionsResponse nextActions(UUID userId, int days) {
+        return dashboardCache.get(userId, "next-actions:" + days, () -> loadNextActions(userId, days));
+    }
+
+    public DashboardActivityResponse activity(UUID userId, int days) {
+        return dashboardCache.get(userId, "activity:" + days, () -> loadActivity(userId, days));
+    }
+
+    public Bootstrap bootstrap(UUID userId, int staleDays, int nextActionDays, int activityDays) {
+        long started = System.nanoTime();
+        CompletableFuture<Timed<DashboardSummaryResponse>> summary = timed(() -> summary(userId));
+        CompletableFuture<Timed<DashboardNextActionsResponse>> nextActions =
+                timed(() -> nextActions(userId, nextActionDays));
+        CompletableFuture<Timed<List<ApplicationResponse>>> stale = timed(() -> staleApplications(userId, staleDays));
+        CompletableFuture<Timed<DashboardActivityResponse>> activity = timed(() -> activity(userId, activityDays));
+        try {
+            CompletableFuture.allOf(summary, nextActions, stale, activity).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
         }
+
+        Map<String, Long> sectionNanos = new LinkedHashMap<>();
+        sectionNanos.put("summary", summary.join().nanos());
+        sectionNanos.put("next-actions", nextActions.join().nanos());
+        sectionNanos.put("stale", stale.join().nanos());
+        sectionNanos.put("activity", activity.join().nanos());
+        sectionNanos.put("total", System.nanoTime() - started);
+        DashboardBootstrapResponse response = new DashboardBootstrapResponse(
+                summary.join().value(),
+                nextActions.join().value(),
+                stale.join().value(),
+                activity.join().value()
+        );
+        return new Bootstrap(response, sectionNanos);
+    }
+
+    private <T> CompletableFuture<Timed<T>> timed(Supplier<T> section) {
+        return queryExecutor.submit(() -> {
+            long started = System.nanoTime();
+            T value = section.get();
+            return new Timed<>(value, System.nanoTime() - started);
+        });
+    }
+
+    private DashboardSummaryResponse loadSummary(UUID userId) {
+        Map<Stage, Long> stageCounts = stageCounterService.snapshot(userId);
         LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
         long overdueTasks = taskRepository.countOverdue(userId, startOfDay, LocalDateTime.now());
         return new DashboardSummaryResponse(stageCounts, overdueTasks);
     }
 
-    public List<ApplicationResponse> staleApplications(UUID userId, int days) {
+    private List<ApplicationResponse> loadStaleApplications(UUID userId, int days) {
         LocalDateTime cutoff = LocalDateTime.now().minusDays(days);
         Sort sort = Sort.by(Sort.Direction.ASC, "lastTouchAt");
         return applicationRepository.findAllByUserIdAndLastTouchAtBefore(userId, cutoff, sort).stream()
@@ -58,12 +121,10 @@ public class DashboardService {
                 .collect(Collectors.toList());
     }
 
-    public DashboardNextActionsResponse nextActions(UUID userId, int days) {
+    private DashboardNextActionsResponse loadNextActions(UUID userId, int days) {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime end = now.plusDays(days);
-        List<TaskResponse> dueSoonTasks = taskRepository.findDueSoon(userId, now, end, now).stream()
-                .map(TaskResponse::from)
-                .collect(Collectors.toList());
+        List<TaskResponse> dueSoonTasks = taskRepository.findDueSoon(userId, now, end, now);
 
         LocalDateTime cutoff = now.minusDays(days);
         List<Stage> terminalStages = List.of(Stage.REJECTED, Stage.WITHDRAWN);
@@ -76,30 +137,29 @@ public class DashboardService {
         return new DashboardNextActionsResponse(dueSoonTasks, staleApplications);
     }
 
-    public DashboardActivityResponse activity(UUID userId, int days) {
+    private DashboardActivityResponse loadActivity(UUID userId, int days) {
         LocalDate today = LocalDate.now();
         LocalDate startDate = today.minusDays(days - 1L);
-        LocalDateTime start = startDate.atStartOfDay();
-        LocalDateTime endExclusive = today.plusDays(1).atStartOfDay();
-
-        List<StageEvent> stageEvents = stageEventRepository
-                .findAllByApplicationUserIdAndCreatedAtBetween(userId, start, endExclusive);
-        List<Task> completedTasks = taskRepository
-                .findAllByApplicationUserIdAndCompletedAtBetween(userId, start, endExclusive);
-
-        Map<LocalDate, Long> stageCounts = stageEvents.stream()
-                .collect(Collectors.groupingBy(event -> event.getCreatedAt().toLocalDate(), Collectors.counting()));
-        Map<LocalDate, Long> taskCounts = completedTasks.stream()
-                .collect(Collectors.groupingBy(task -> task.getCompletedAt().toLocalDate(), Collectors.counting()));
+        Map<LocalDate, UserDailyActivity> rollup = activityRollupService.range(userId, startDate, today).stream()
+                .collect(Collectors.toMap(UserDailyActivity::getDay, Function.identity()));
 
         List<DashboardActivityPoint> items = startDate.datesUntil(today.plusDays(1))
-                .map(date -> new DashboardActivityPoint(
-                        date,
-                        stageCounts.getOrDefault(date, 0L),
-                        taskCounts.getOrDefault(date, 0L)
-                ))
+                .map(date -> {
+                    UserDailyActivity day = rollup.get(date);
+                    return new DashboardActivityPoint(
+                            date,
+                            day == null ? 0L : day.getStageChanges(),
+                            day == null ? 0L : day.getTasksCompleted()
+                    );
+                })
                 .collect(Collectors.toList());
 
         return new DashboardActivityResponse(days, items);
     }
+
+    public record Bootstrap(DashboardBootstrapResponse response, Map<String, Long> sectionNanos) {
+    }
+
+    private record Timed<T>(T value, long nanos) {
+    }
 }
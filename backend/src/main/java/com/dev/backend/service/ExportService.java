@@ -0,0 +1,225 @@
+package com.dev.backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+// Streams a user's data straight from a forward-only result set to the response. Rows are
+// fetched in small chunks (a server-side cursor on Postgres, which needs the read-only
+// transaction to keep the cursor open) and written one at a time, so memory use does not
+// grow with the size of the export.
+@Service
+public class ExportService {
+
+    private static final Map<String, String> DATASETS = new LinkedHashMap<>();
+
+    static {
+        DATASETS.put("applications", """
+                select a.id, a.company, a.role, a.job_url, a.location, a.notes, a.stage,
+                       a.last_touch_at, a.stage_changed_at, a.created_at, a.updated_at
+                from applications a
+                where a.user_id = ?
+                order by a.id
+                """);
+        DATASETS.put("tasks", """
+                select t.id, t.application_id, t.title, t.status, t.due_at, t.snooze_until, t.notes,
+                       t.completed_at, t.created_at, t.updated_at
+                from tasks t
+                join applications a on a.id = t.application_id
+                where a.user_id = ?
+                order by t.id
+                """);
+        DATASETS.put("stage_events", """
+                select e.id, e.application_id, e.from_stage, e.to_stage, e.note, e.actor, e.created_at
+                from stage_events e
+                join applications a on a.id = e.application_id
+                where a.user_id = ?
+                order by e.id
+                """);
+        DATASETS.put("audit_events", """
+                select e.id, e.event_type, e.entity_type, e.entity_id, e.payload, e.correlation_id, e.created_at
+                from audit_events e
+                where e.user_id = ?
+                order by e.id
+                """);
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public ExportService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${app.export.fetch-size:500}") int fetchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    public void requireDataset(String dataset) {
+        if (!DATASETS.containsKey(dataset)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown dataset: " + dataset);
+        }
+    }
+
+    public void writeNdjson(UUID userId, OutputStream out) throws IOException {
+        JsonGenerator json = objectMapper.getFactory().createGenerator(out);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Map.Entry<String, String> dataset : DATASETS.entrySet()) {
+                    String type = singular(dataset.getKey());
+                    stream(dataset.getValue(), userId, (columns, row) -> {
+                        json.writeStartObject();
+                        json.writeStringField("type", type);
+                        for (int i = 0; i < columns.length; i++) {
+                            json.writeFieldName(columns[i]);
+                            writeJsonValue(json, row.getObject(i + 1));
+                        }
+                        json.writeEndObject();
+                        json.writeRaw('\n');
+                    });
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        } finally {
+            json.flush();
+        }
+    }
+
+    public void writeCsv(UUID userId, String dataset, OutputStream out) throws IOException {
+        requireDataset(dataset);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try {
+            transactionTemplate.executeWithoutResult(status -> stream(DATASETS.get(dataset), userId, new RowWriter() {
+                private boolean headerWritten;
+
+                @Override
+                public void write(String[] columns, ResultSet row) throws IOException, SQLException {
+                    if (!headerWritten) {
+                        writeCsvRecord(writer, columns);
+                        headerWritten = true;
+                    }
+                    String[] values = new String[columns.length];
+                    for (int i = 0; i < columns.length; i++) {
+                        values[i] = csvValue(row.getObject(i + 1));
+                    }
+                    writeCsvRecord(writer, values);
+                }
+            }));
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        } finally {
+            writer.flush();
+        }
+    }
+
+    private void stream(String sql, UUID userId, RowWriter rowWriter) {
+        RowCallbackHandler handler = new RowCallbackHandler() {
+            private String[] columns;
+
+            @Override
+            public void processRow(ResultSet row) throws SQLException {
+                if (columns == null) {
+                    ResultSetMetaData metaData = row.getMetaData();
+                    columns = new String[metaData.getColumnCount()];
+                    for (int i = 0; i < columns.length; i++) {
+                        columns[i] = metaData.getColumnLabel(i + 1).toLowerCase();
+                    }
+                }
+                try {
+                    rowWriter.write(columns, row);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+        };
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(fetchSize);
+                    statement.setObject(1, userId);
+                    return statement;
+                },
+                handler
+        );
+    }
+
+    private static void writeJsonValue(JsonGenerator json, Object value) throws IOException {
+        if (value == null) {
+            json.writeNull();
+        } else if (value instanceof Number number) {
+            json.writeNumber(number.longValue());
+        } else if (value instanceof Timestamp timestamp) {
+            json.writeString(timestamp.toLocalDateTime().toString());
+        } else {
+            json.writeString(value.toString());
+        }
+    }
+
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toString();
+        }
+        return value.toString();
+    }
+
+    private static void writeCsvRecord(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = values[i];
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static String singular(String dataset) {
+        return dataset.substring(0, dataset.length() - 1);
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(String[] columns, ResultSet row) throws IOException, SQLException;
+    }
+}
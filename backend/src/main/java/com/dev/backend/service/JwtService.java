@@ -7,6 +7,7 @@ import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
@@ -20,6 +21,7 @@ import org.springframework.stereotype.Service;
 public class JwtService {
 
     private final Key signingKey;
+    private final JwtParser parser;
     private final long expirationSeconds;
     private final boolean allowDevSecrets;
 
@@ -30,6 +32,9 @@ public class JwtService {
     ) {
         this.allowDevSecrets = allowDevSecrets;
         this.signingKey = Keys.hmacShaKeyFor(normalizeSecret(secret));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
         this.expirationSeconds = expirationSeconds;
     }
 
@@ -48,17 +53,15 @@ public class JwtService {
 
     public AuthenticatedUser parseToken(String token) {
         try {
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(signingKey)
-                    .build()
-                    .parseClaimsJws(token);
+            Jws<Claims> claims = parser.parseClaimsJws(token);
             String subject = claims.getBody().getSubject();
             if (subject == null || subject.isBlank()) {
                 throw new JwtException("Missing subject");
             }
             UUID userId = UUID.fromString(subject);
             String email = claims.getBody().get("email", String.class);
-            return new AuthenticatedUser(userId, email);
+            Date expiration = claims.getBody().getExpiration();
+            return new AuthenticatedUser(userId, email, expiration == null ? null : expiration.toInstant());
         } catch (JwtException | IllegalArgumentException ex) {
             throw new JwtException("Invalid token", ex);
         }
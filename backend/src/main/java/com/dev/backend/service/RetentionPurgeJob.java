@@ -0,0 +1,268 @@
+package com.dev.backend.service;
+
+import com.dev.backend.config.DatabaseDialect;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// Deletes expired tokens and aged audit events in bounded batches, one table after another on a
+// single background thread. Each batch is "delete ... where id in (select id ... limit n)" and
+// commits on its own, so no statement locks more than batch-size rows and other writers keep
+// moving. Runs are spread out with random jitter; on Postgres a session advisory lock lets only
+// one node purge at a time and the others skip that run.
+@Component
+public class RetentionPurgeJob {
+
+    private static final Logger log = LoggerFactory.getLogger(RetentionPurgeJob.class);
+
+    // Any fixed key works as long as every node uses the same one.
+    private static final long ADVISORY_LOCK_KEY = 0x5055524745L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect dialect;
+    private final boolean enabled;
+    private final long intervalMillis;
+    private final long jitterMillis;
+    private final int batchSize;
+    private final long batchPauseMillis;
+    private final List<Target> targets = new ArrayList<>();
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder skippedRuns = new LongAdder();
+    private volatile long lastRunMillis;
+
+    private ScheduledExecutorService scheduler;
+
+    public RetentionPurgeJob(
+            JdbcTemplate jdbcTemplate,
+            DatabaseDialect dialect,
+            @Value("${app.purge.enabled:true}") boolean enabled,
+            @Value("${app.purge.interval-millis:3600000}") long intervalMillis,
+            @Value("${app.purge.jitter-millis:300000}") long jitterMillis,
+            @Value("${app.purge.batch-size:1000}") int batchSize,
+            @Value("${app.purge.batch-pause-millis:50}") long batchPauseMillis,
+            @Value("${app.purge.refresh-tokens.revoked-retention-hours:168}") long refreshRevokedRetentionHours,
+            @Value("${app.purge.email-verification-tokens.retention-hours:24}") long emailVerificationRetentionHours,
+            @Value("${app.purge.password-reset-tokens.retention-hours:24}") long passwordResetRetentionHours,
+            @Value("${app.purge.audit-events.retention-days:365}") long auditRetentionDays
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = dialect;
+        this.enabled = enabled;
+        this.intervalMillis = intervalMillis;
+        this.jitterMillis = jitterMillis;
+        this.batchSize = batchSize;
+        this.batchPauseMillis = batchPauseMillis;
+
+        // Revoked refresh tokens are kept for the reuse-detection window.
+        targets.add(new Target("refresh_tokens", "expires_at < ? or revoked_at < ?",
+                now -> new LocalDateTime[] {now, now.minusHours(refreshRevokedRetentionHours)}));
+        targets.add(new Target("email_verification_tokens", "expires_at < ? or used_at < ?",
+                now -> new LocalDateTime[] {
+                        now.minusHours(emailVerificationRetentionHours),
+                        now.minusHours(emailVerificationRetentionHours)
+                }));
+        targets.add(new Target("password_reset_tokens", "expires_at < ? or used_at < ?",
+                now -> new LocalDateTime[] {
+                        now.minusHours(passwordResetRetentionHours),
+                        now.minusHours(passwordResetRetentionHours)
+                }));
+        // A retention of zero keeps audit events forever.
+        if (auditRetentionDays > 0) {
+            targets.add(new Target("audit_events", "created_at < ?",
+                    now -> new LocalDateTime[] {now.minusDays(auditRetentionDays)}));
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        if (enabled) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "retention-purge");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduleNext();
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    // Purges every table once, using now to work out the cutoffs. Returns rows deleted per
+    // table, or an empty map when another node holds the purge lock.
+    public Map<String, Integer> purge(LocalDateTime now) {
+        return jdbcTemplate.execute((ConnectionCallback<Map<String, Integer>>) connection -> {
+            if (dialect.isPostgres() && !advisoryLock(connection, "pg_try_advisory_lock")) {
+                skippedRuns.increment();
+                log.debug("Skipping retention purge; another node holds the lock");
+                return Map.of();
+            }
+            long started = System.nanoTime();
+            try {
+                Map<String, Integer> deleted = new LinkedHashMap<>();
+                for (Target target : targets) {
+                    deleted.put(target.table(), purge(connection, target, now));
+                    // Shutting down: leave the remaining tables for the next run.
+                    if (Thread.currentThread().isInterrupted()) {
+                        break;
+                    }
+                }
+                return deleted;
+            } finally {
+                lastRunMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                runs.increment();
+                if (dialect.isPostgres() && !advisoryLock(connection, "pg_advisory_unlock")) {
+                    log.warn("Retention purge lock was not held when releasing it");
+                }
+            }
+        });
+    }
+
+    public Map<String, TableStats> tableStats() {
+        Map<String, TableStats> stats = new LinkedHashMap<>();
+        targets.forEach(target -> stats.put(target.table(), target.stats()));
+        return stats;
+    }
+
+    public long runCount() {
+        return runs.sum();
+    }
+
+    public long skippedCount() {
+        return skippedRuns.sum();
+    }
+
+    public long lastRunMillis() {
+        return lastRunMillis;
+    }
+
+    private void run() {
+        try {
+            Map<String, Integer> deleted = purge(LocalDateTime.now());
+            if (deleted.values().stream().anyMatch(count -> count > 0)) {
+                log.info("Retention purge deleted {}", deleted);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Retention purge failed", ex);
+        } finally {
+            if (!scheduler.isShutdown()) {
+                scheduleNext();
+            }
+        }
+    }
+
+    // Nodes started together drift apart instead of all reaching for the lock at the same moment.
+    private void scheduleNext() {
+        long jitter = jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0;
+        scheduler.schedule(this::run, intervalMillis + jitter, TimeUnit.MILLISECONDS);
+    }
+
+    private int purge(Connection connection, Target target, LocalDateTime now) {
+        LocalDateTime[] cutoffs = target.cutoffs().apply(now);
+        int total = 0;
+        try (PreparedStatement statement = connection.prepareStatement(target.sql())) {
+            for (int i = 0; i < cutoffs.length; i++) {
+                statement.setTimestamp(i + 1, Timestamp.valueOf(cutoffs[i]));
+            }
+            statement.setInt(cutoffs.length + 1, batchSize);
+            int deleted;
+            do {
+                deleted = statement.executeUpdate();
+                total += deleted;
+                target.stats().deleted.add(deleted);
+                target.stats().batches.increment();
+            } while (deleted == batchSize && pause());
+            // A full last batch means the loop was cut short, not that the table is done.
+            if (deleted < batchSize) {
+                target.stats().lastSuccess.set(System.currentTimeMillis());
+            }
+        } catch (SQLException ex) {
+            target.stats().failures.increment();
+            log.warn("Failed to purge {} after {} rows", target.table(), total, ex);
+        }
+        return total;
+    }
+
+    // Gives other writers and vacuum room between batches. Returns false once interrupted.
+    private boolean pause() {
+        if (batchPauseMillis <= 0) {
+            return !Thread.currentThread().isInterrupted();
+        }
+        try {
+            Thread.sleep(batchPauseMillis);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean advisoryLock(Connection connection, String function) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("select " + function + "(?)")) {
+            statement.setLong(1, ADVISORY_LOCK_KEY);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    public static final class TableStats {
+
+        private final LongAdder deleted = new LongAdder();
+        private final LongAdder batches = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final AtomicLong lastSuccess = new AtomicLong();
+
+        public long deletedCount() {
+            return deleted.sum();
+        }
+
+        public long batchCount() {
+            return batches.sum();
+        }
+
+        public long failedCount() {
+            return failures.sum();
+        }
+
+        // Epoch millis of the last pass that reached the end of the table, 0 before the first.
+        public long lastSuccessEpochMillis() {
+            return lastSuccess.get();
+        }
+    }
+
+    private record Target(String table, String sql, Function<LocalDateTime, LocalDateTime[]> cutoffs, TableStats stats) {
+
+        Target(String table, String condition, Function<LocalDateTime, LocalDateTime[]> cutoffs) {
+            this(table, "delete from " + table + " where id in (select id from " + table
+                    + " where " + condition + " limit ?)", cutoffs, new TableStats());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.dev.backend.service;
+
+import com.dev.backend.config.DatabaseDialect;
+import com.dev.backend.model.Stage;
+import com.dev.backend.model.UserStageCounter;
+import com.dev.backend.repository.ApplicationRepository;
+import com.dev.backend.repository.UserStageCounterRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+@Service
+public class StageCounterService {
+
+    // Two first writes for the same user can both find no row; whichever inserts second keeps
+    // the winner's row instead of failing on the primary key.
+    private static final String INSERT_SQL = """
+            insert into user_stage_counters
+                (user_id, saved, applied, interview, offer, rejected, withdrawn, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String POSTGRES_INSERT_SQL = INSERT_SQL + " on conflict (user_id) do nothing";
+
+    private final UserStageCounterRepository counterRepository;
+    private final ApplicationRepository applicationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect dialect;
+
+    public StageCounterService(
+            UserStageCounterRepository counterRepository,
+            ApplicationRepository applicationRepository,
+            JdbcTemplate jdbcTemplate,
+            DatabaseDialect dialect
+    ) {
+        this.counterRepository = counterRepository;
+        this.applicationRepository = applicationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = dialect;
+    }
+
+    public Map<Stage, Long> snapshot(UUID userId) {
+        UserStageCounter counter = counterRepository.findById(userId).orElseGet(() -> {
+            backfill(userId);
+            return counterRepository.findById(userId).orElseThrow();
+        });
+        Map<Stage, Long> counts = new EnumMap<>(Stage.class);
+        for (Stage stage : Stage.values()) {
+            counts.put(stage, counter.countFor(stage));
+        }
+        return counts;
+    }
+
+    // Must run before the application row itself is written: a missing counter row is
+    // backfilled from the current table contents and the delta is applied on top.
+    public void increment(UUID userId, Stage stage) {
+        UserStageCounter counter = lockOrBackfill(userId);
+        counter.adjust(stage, 1);
+        counterRepository.save(counter);
+    }
+
+    // For rows this transaction has already written: the counter row is only locked now, and
+    // a row backfilled here already counts them, so the delta goes only onto an existing row.
+    public void addWritten(UUID userId, Stage stage, long delta) {
+        Optional<UserStageCounter> existing = counterRepository.findForUpdate(userId);
+        if (existing.isEmpty() && backfill(userId)) {
+            return;
+        }
+        UserStageCounter counter = existing.orElseGet(() -> counterRepository.findForUpdate(userId).orElseThrow());
+        counter.adjust(stage, delta);
+        counterRepository.save(counter);
+    }
+
+    public void decrement(UUID userId, Stage stage) {
+        UserStageCounter counter = lockOrBackfill(userId);
+        counter.adjust(stage, -1);
+        counterRepository.save(counter);
+    }
+
+    public void move(UUID userId, Stage from, Stage to) {
+        UserStageCounter counter = lockOrBackfill(userId);
+        counter.adjust(from, -1);
+        counter.adjust(to, 1);
+        counterRepository.save(counter);
+    }
+
+    public void moveAll(UUID userId, Map<Stage, Long> fromCounts, Stage to) {
+        UserStageCounter counter = lockOrBackfill(userId);
+        fromCounts.forEach((from, count) -> {
+            counter.adjust(from, -count);
+            counter.adjust(to, count);
+        });
+        counterRepository.save(counter);
+    }
+
+    private UserStageCounter lockOrBackfill(UUID userId) {
+        return counterRepository.findForUpdate(userId).orElseGet(() -> {
+            backfill(userId);
+            return counterRepository.findForUpdate(userId).orElseThrow();
+        });
+    }
+
+    // Creates the user's row from the current table contents unless one already exists, and
+    // reports whether this call created it.
+    private boolean backfill(UUID userId) {
+        UserStageCounter counter = new UserStageCounter();
+        applicationRepository.countByStage(userId)
+                .forEach(count -> counter.adjust(count.getStage(), count.getTotal()));
+        Object[] args = {
+                userId,
+                counter.getSaved(),
+                counter.getApplied(),
+                counter.getInterview(),
+                counter.getOffer(),
+                counter.getRejected(),
+                counter.getWithdrawn(),
+                Timestamp.valueOf(LocalDateTime.now())
+        };
+        if (dialect.isPostgres()) {
+            return jdbcTemplate.update(POSTGRES_INSERT_SQL, args) > 0;
+        }
+        // Elsewhere a failed statement leaves the transaction usable, so losing the race is fine.
+        try {
+            return jdbcTemplate.update(INSERT_SQL, args) > 0;
+        } catch (DuplicateKeyException ex) {
+            // Another writer created the row first.
+            return false;
+        }
+    }
+}
@@ -1,18 +1,22 @@
 package com.dev.backend.service;
 
+import com.dev.backend.config.DatabaseDialect;
 import com.dev.backend.dto.TaskCreateRequest;
+import com.dev.backend.dto.TaskResponse;
 import com.dev.backend.dto.TaskUpdateRequest;
 import com.dev.backend.model.Application;
 import com.dev.backend.model.Task;
 import com.dev.backend.model.TaskStatus;
 import com.dev.backend.repository.ApplicationRepository;
 import com.dev.backend.repository.TaskRepository;
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
@@ -20,18 +24,70 @@ import org.springframework.web.server.ResponseStatusException;
 @Service
 public class TaskService {
 
+    // Tasks carry no user id, so ownership is checked through the parent application.
+    private static final String UPDATE_SQL = """
+            update tasks
+            set title = ?, due_at = ?, snooze_until = ?, notes = ?, updated_at = ?, version = version + 1
+            where id = ? and version = coalesce(cast(? as bigint), version)
+              and application_id in (select a.id from applications a where a.user_id = ?)
+            """;
+    // Compare-and-set on the status and completion time read beforehand, which the rollup
+    // adjustment is computed from; the version only takes part when the client sent If-Match.
+    private static final String STATUS_UPDATE_SQL = """
+            update tasks
+            set status = ?, completed_at = ?, updated_at = ?, version = version + 1
+            where id = ? and status = ? and completed_at is not distinct from cast(? as timestamp)
+              and version = coalesce(cast(? as bigint), version)
+              and application_id in (select a.id from applications a where a.user_id = ?)
+            """;
+    private static final String RETURNED_COLUMNS = """
+            id, application_id, title, status, due_at, snooze_until, notes, completed_at,
+            created_at, updated_at, version
+            """;
+    private static final RowMapper<Task> TASK_ROW_MAPPER = (resultSet, rowNum) -> {
+        Application application = new Application();
+        application.setId(resultSet.getLong("application_id"));
+        return new Task(
+                resultSet.getLong("id"),
+                application,
+                resultSet.getString("title"),
+                TaskStatus.valueOf(resultSet.getString("status")),
+                resultSet.getObject("due_at", LocalDateTime.class),
+                resultSet.getObject("snooze_until", LocalDateTime.class),
+                resultSet.getString("notes"),
+                resultSet.getObject("completed_at", LocalDateTime.class),
+                resultSet.getObject("created_at", LocalDateTime.class),
+                resultSet.getObject("updated_at", LocalDateTime.class),
+                resultSet.getLong("version")
+        );
+    };
+
     private final TaskRepository taskRepository;
     private final ApplicationRepository applicationRepository;
     private final AuditService auditService;
+    private final DashboardCache dashboardCache;
+    private final ActivityRollupService activityRollupService;
+    private final JdbcTemplate jdbcTemplate;
+    private final String updateSql;
+    private final String statusUpdateSql;
 
     public TaskService(
             TaskRepository taskRepository,
             ApplicationRepository applicationRepository,
-            AuditService auditService
+            AuditService auditService,
+            DashboardCache dashboardCache,
+            ActivityRollupService activityRollupService,
+            JdbcTemplate jdbcTemplate,
+            DatabaseDialect dialect
     ) {
         this.taskRepository = taskRepository;
         this.applicationRepository = applicationRepository;
         this.auditService = auditService;
+        this.dashboardCache = dashboardCache;
+        this.activityRollupService = activityRollupService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.updateSql = dialect.returning(UPDATE_SQL, RETURNED_COLUMNS);
+        this.statusUpdateSql = dialect.returning(STATUS_UPDATE_SQL, RETURNED_COLUMNS);
     }
 
     public Task create(UUID userId, Long applicationId, TaskCreateRequest request) {
@@ -57,14 +113,15 @@ public class TaskService {
                 saved.getId(),
                 payload
         );
+        dashboardCache.invalidate(userId);
         return saved;
     }
 
-    public List<Task> listForApplication(UUID userId, Long applicationId) {
-        Application application = applicationRepository.findByIdAndUserId(applicationId, userId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found"));
-        Sort sort = Sort.by(Sort.Direction.ASC, "dueAt").and(Sort.by(Sort.Direction.ASC, "createdAt"));
-        return taskRepository.findAllByApplicationId(application.getId(), sort);
+    public List<TaskResponse> listForApplication(UUID userId, Long applicationId) {
+        if (!applicationRepository.existsByIdAndUserId(applicationId, userId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found");
+        }
+        return taskRepository.findResponsesByApplicationId(applicationId);
     }
 
     @Transactional
@@ -72,6 +129,7 @@ public class TaskService {
         Task task = taskRepository.findByIdAndApplicationUserId(taskId, userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found"));
         taskRepository.delete(task);
+        activityRollupService.recordTaskCompletion(userId, task.getCompletedAt(), null);
         auditService.record(
                 userId,
                 "task.deleted",
@@ -83,30 +141,63 @@ public class TaskService {
                         "actor", "user:" + userId
                 )
         );
+        dashboardCache.invalidate(userId);
     }
 
-    public Task update(UUID userId, Long taskId, TaskUpdateRequest request) {
-        Task task = taskRepository.findByIdAndApplicationUserId(taskId, userId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found"));
-        task.setTitle(request.getTitle());
-        task.setDueAt(request.getDueAt());
-        task.setSnoozeUntil(request.getSnoozeUntil());
-        task.setNotes(request.getNotes());
-        return taskRepository.save(task);
+    // Same shape as ApplicationService.update: one statement that checks, bumps and returns the row.
+    public Task update(UUID userId, Long taskId, Long expectedVersion, TaskUpdateRequest request) {
+        List<Task> updated = jdbcTemplate.query(
+                updateSql,
+                TASK_ROW_MAPPER,
+                request.getTitle(),
+                request.getDueAt() == null ? null : Timestamp.valueOf(request.getDueAt()),
+                request.getSnoozeUntil() == null ? null : Timestamp.valueOf(request.getSnoozeUntil()),
+                request.getNotes(),
+                Timestamp.valueOf(LocalDateTime.now()),
+                taskId,
+                expectedVersion,
+                userId
+        );
+        if (updated.isEmpty()) {
+            if (expectedVersion != null && taskRepository.findByIdAndApplicationUserId(taskId, userId).isPresent()) {
+                throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Task was modified");
+            }
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found");
+        }
+        dashboardCache.invalidate(userId);
+        return updated.get(0);
     }
 
     @Transactional
-    public Task updateStatus(UUID userId, Long taskId, TaskStatus status) {
+    public Task updateStatus(UUID userId, Long taskId, Long expectedVersion, TaskStatus status) {
         Task task = taskRepository.findByIdAndApplicationUserId(taskId, userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found"));
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Task was modified");
+        }
         TaskStatus previousStatus = task.getStatus();
-        task.setStatus(status);
-        if (status == TaskStatus.DONE) {
-            task.setCompletedAt(LocalDateTime.now());
-        } else {
-            task.setCompletedAt(null);
+        LocalDateTime previousCompletedAt = task.getCompletedAt();
+        LocalDateTime now = LocalDateTime.now();
+        // The row read above is only a hint; the update itself decides who wins a race.
+        List<Task> updated = jdbcTemplate.query(
+                statusUpdateSql,
+                TASK_ROW_MAPPER,
+                status.name(),
+                status == TaskStatus.DONE ? Timestamp.valueOf(now) : null,
+                Timestamp.valueOf(now),
+                taskId,
+                previousStatus.name(),
+                previousCompletedAt == null ? null : Timestamp.valueOf(previousCompletedAt),
+                expectedVersion,
+                userId
+        );
+        if (updated.isEmpty()) {
+            throw expectedVersion != null
+                    ? new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Task was modified")
+                    : new ResponseStatusException(HttpStatus.CONFLICT, "Task changed concurrently");
         }
-        Task saved = taskRepository.save(task);
+        Task saved = updated.get(0);
+        activityRollupService.recordTaskCompletion(userId, previousCompletedAt, saved.getCompletedAt());
         if (status == TaskStatus.DONE && previousStatus != TaskStatus.DONE) {
             auditService.record(
                     userId,
@@ -121,56 +212,25 @@ public class TaskService {
                     )
             );
         }
+        dashboardCache.invalidate(userId);
         return saved;
     }
 
-    public List<Task> listDueToday(UUID userId) {
-        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-        LocalDateTime startOfTomorrow = startOfDay.plusDays(1);
-        Sort sort = Sort.by(Sort.Direction.ASC, "dueAt");
-        List<Task> tasks = taskRepository
-                .findAllByApplicationUserIdAndStatusAndDueAtGreaterThanEqualAndDueAtLessThan(
-                        userId,
-                        TaskStatus.OPEN,
-                        startOfDay,
-                        startOfTomorrow,
-                        sort
-                );
-        return filterSnoozed(tasks, LocalDateTime.now());
+    public List<TaskResponse> listDueToday(UUID userId) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime startOfDay = now.toLocalDate().atStartOfDay();
+        return taskRepository.findDueSoon(userId, startOfDay, startOfDay.plusDays(1), now);
     }
 
-    public List<Task> listDueThisWeek(UUID userId) {
-        LocalDate today = LocalDate.now();
-        LocalDate startOfWeekDate = today.with(java.time.temporal.WeekFields.ISO.dayOfWeek(), 1);
+    public List<TaskResponse> listDueThisWeek(UUID userId) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate startOfWeekDate = now.toLocalDate().with(java.time.temporal.WeekFields.ISO.dayOfWeek(), 1);
         LocalDateTime startOfWeek = startOfWeekDate.atStartOfDay();
-        LocalDateTime startOfNextWeek = startOfWeek.plusWeeks(1);
-        Sort sort = Sort.by(Sort.Direction.ASC, "dueAt");
-        List<Task> tasks = taskRepository
-                .findAllByApplicationUserIdAndStatusAndDueAtGreaterThanEqualAndDueAtLessThan(
-                        userId,
-                        TaskStatus.OPEN,
-                        startOfWeek,
-                        startOfNextWeek,
-                        sort
-                );
-        return filterSnoozed(tasks, LocalDateTime.now());
-    }
-
-    public List<Task> listOverdue(UUID userId) {
-        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-        Sort sort = Sort.by(Sort.Direction.ASC, "dueAt");
-        List<Task> tasks = taskRepository.findAllByApplicationUserIdAndStatusAndDueAtLessThan(
-                userId,
-                TaskStatus.OPEN,
-                startOfDay,
-                sort
-        );
-        return filterSnoozed(tasks, LocalDateTime.now());
+        return taskRepository.findDueSoon(userId, startOfWeek, startOfWeek.plusWeeks(1), now);
     }
 
-    private List<Task> filterSnoozed(List<Task> tasks, LocalDateTime now) {
-        return tasks.stream()
-                .filter(task -> task.getSnoozeUntil() == null || !task.getSnoozeUntil().isAfter(now))
-                .toList();
+    public List<TaskResponse> listOverdue(UUID userId) {
+        LocalDateTime now = LocalDateTime.now();
+        return taskRepository.findOverdue(userId, now.toLocalDate().atStartOfDay(), now);
     }
 }
@@ -0,0 +1,39 @@
+package com.dev.backend.web;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+// Entity tags for applications and tasks are their row version in quotes. If-Match is turned
+// into the version a conditional update has to find; no header or "*" gives null, which means
+// write whatever is there.
+public final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    public static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if ("*".equals(tag)) {
+            return null;
+        }
+        if (tag.indexOf(',') >= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "If-Match must be a single entity tag");
+        }
+        // If-Match compares strongly, so a weak tag or one we never issued cannot match.
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Entity tag does not match");
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException ex) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Entity tag does not match");
+        }
+    }
+}
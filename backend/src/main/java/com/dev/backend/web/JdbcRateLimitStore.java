@@ -0,0 +1,256 @@
+package com.dev.backend.web;
+
+import com.dev.backend.config.DatabaseDialect;
+import jakarta.annotation.PostConstruct;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Shared fixed-window counters so every node enforces the same limit. Requests are counted in
+// a local buffer and decided against the last global count this node has seen; a scheduled
+// flush pushes the buffered hits with one atomic upsert and reads back the new totals, so the
+// request path never waits on the database. Nodes can overshoot by at most one flush interval
+// worth of traffic, and the previous window is weighted in to smooth the boundary burst.
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "jdbc")
+public class JdbcRateLimitStore implements RateLimitStore {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcRateLimitStore.class);
+
+    private static final String POSTGRES_CREATE_SQL = """
+            create unlogged table if not exists rate_limit_counters (
+                bucket_key varchar(255) not null,
+                window_start bigint not null,
+                hits bigint not null,
+                expires_at bigint not null,
+                primary key (bucket_key, window_start)
+            )
+            """;
+    private static final String POSTGRES_UPSERT_SQL = """
+            insert into rate_limit_counters (bucket_key, window_start, hits, expires_at)
+            select * from unnest(?::varchar[], ?::bigint[], ?::bigint[], ?::bigint[])
+            on conflict (bucket_key, window_start)
+            do update set hits = rate_limit_counters.hits + excluded.hits
+            returning bucket_key, window_start, hits
+            """;
+    private static final String GENERIC_CREATE_SQL = """
+            create table if not exists rate_limit_counters (
+                bucket_key varchar(255) not null,
+                window_start bigint not null,
+                hits bigint not null,
+                expires_at bigint not null,
+                primary key (bucket_key, window_start)
+            )
+            """;
+    private static final String GENERIC_MERGE_SQL = """
+            merge into rate_limit_counters c
+            using (values (cast(? as varchar(255)), cast(? as bigint), cast(? as bigint), cast(? as bigint)))
+                as s (bucket_key, window_start, hits, expires_at)
+            on c.bucket_key = s.bucket_key and c.window_start = s.window_start
+            when matched then update set hits = c.hits + s.hits
+            when not matched then insert (bucket_key, window_start, hits, expires_at)
+                values (s.bucket_key, s.window_start, s.hits, s.expires_at)
+            """;
+    private static final String GENERIC_SELECT_SQL =
+            "select hits from rate_limit_counters where bucket_key = ? and window_start = ?";
+    private static final String PURGE_SQL = "delete from rate_limit_counters where expires_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect dialect;
+    private final Map<WindowKey, Counter> counters = new ConcurrentHashMap<>();
+    private final AtomicLong flushFailures = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+    private final AtomicLong overflowed = new AtomicLong();
+    private final int maxKeys;
+
+    public JdbcRateLimitStore(
+            JdbcTemplate jdbcTemplate,
+            DatabaseDialect dialect,
+            @Value("${app.rate-limit.max-buckets:100000}") int maxKeys
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = dialect;
+        this.maxKeys = maxKeys;
+    }
+
+    @PostConstruct
+    void createTable() {
+        jdbcTemplate.execute(dialect.isPostgres() ? POSTGRES_CREATE_SQL : GENERIC_CREATE_SQL);
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String key, int limit, int windowSeconds) {
+        int safeLimit = Math.max(1, limit);
+        long windowMillis = TimeUnit.SECONDS.toMillis(Math.max(1, windowSeconds));
+        long now = System.currentTimeMillis();
+        long windowStart = now - Math.floorMod(now, windowMillis);
+
+        WindowKey currentKey = new WindowKey(key, windowStart);
+        Counter current = counters.get(currentKey);
+        if (current == null) {
+            if (counters.size() >= maxKeys) {
+                // Windows older than the previous one are dropped on every flush; until then a
+                // new key goes unlimited rather than sharing a bucket that spoofed keys could fill.
+                overflowed.incrementAndGet();
+                return new RateLimitDecision(true, safeLimit, safeLimit - 1, 0, 0);
+            }
+            current = counters.computeIfAbsent(currentKey, ignored -> new Counter(windowMillis));
+        }
+        Counter previous = counters.get(new WindowKey(currentKey.key(), windowStart - windowMillis));
+
+        long elapsed = now - windowStart;
+        long resetNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis - elapsed);
+        double previousWeight = (double) (windowMillis - elapsed) / windowMillis;
+        long carried = previous == null ? 0 : (long) (previous.total() * previousWeight);
+
+        current.touched = true;
+        long used = carried + current.global + current.pending.incrementAndGet() - 1;
+        if (used + 1 > safeLimit) {
+            current.pending.decrementAndGet();
+            return new RateLimitDecision(false, safeLimit, 0, resetNanos, resetNanos);
+        }
+        return new RateLimitDecision(true, safeLimit, safeLimit - used - 1, resetNanos, 0);
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.flush-interval-millis:100}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        List<Map.Entry<WindowKey, Counter>> batch = new ArrayList<>();
+        for (Map.Entry<WindowKey, Counter> entry : counters.entrySet()) {
+            Counter counter = entry.getValue();
+            if (entry.getKey().windowStart() + 2 * counter.windowMillis <= now) {
+                // Older than the previous window: no longer used for decisions.
+                if (counters.remove(entry.getKey(), counter)) {
+                    evicted.incrementAndGet();
+                }
+            } else if (counter.touched) {
+                counter.touched = false;
+                batch.add(entry);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            if (dialect.isPostgres()) {
+                upsertPostgres(batch);
+            } else {
+                upsertGeneric(batch);
+            }
+        } catch (DataAccessException ex) {
+            // Keep the buffered hits; they are pushed with the next flush.
+            flushFailures.incrementAndGet();
+            batch.forEach(entry -> entry.getValue().touched = true);
+            log.warn("Failed to flush {} rate limit counters", batch.size(), ex);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.purge-interval-millis:60000}")
+    public void purgeExpiredWindows() {
+        jdbcTemplate.update(PURGE_SQL, System.currentTimeMillis());
+    }
+
+    @Override
+    public int trackedKeys() {
+        return counters.size();
+    }
+
+    @Override
+    public long evictedCount() {
+        return evicted.get();
+    }
+
+    @Override
+    public long overflowCount() {
+        return overflowed.get();
+    }
+
+    public long flushFailureCount() {
+        return flushFailures.get();
+    }
+
+    private void upsertPostgres(List<Map.Entry<WindowKey, Counter>> batch) {
+        int size = batch.size();
+        String[] keys = new String[size];
+        Long[] windowStarts = new Long[size];
+        Long[] deltas = new Long[size];
+        Long[] expiresAt = new Long[size];
+        Map<WindowKey, Integer> indexes = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            WindowKey key = batch.get(i).getKey();
+            Counter counter = batch.get(i).getValue();
+            keys[i] = key.key();
+            windowStarts[i] = key.windowStart();
+            deltas[i] = counter.pending.get();
+            expiresAt[i] = key.windowStart() + 2 * counter.windowMillis;
+            indexes.put(key, i);
+        }
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(POSTGRES_UPSERT_SQL);
+                    statement.setArray(1, connection.createArrayOf("varchar", keys));
+                    statement.setArray(2, connection.createArrayOf("bigint", windowStarts));
+                    statement.setArray(3, connection.createArrayOf("bigint", deltas));
+                    statement.setArray(4, connection.createArrayOf("bigint", expiresAt));
+                    return statement;
+                },
+                resultSet -> {
+                    Integer index = indexes.get(new WindowKey(resultSet.getString(1), resultSet.getLong(2)));
+                    if (index != null) {
+                        batch.get(index).getValue().applyFlush(deltas[index], resultSet.getLong(3));
+                    }
+                }
+        );
+    }
+
+    private void upsertGeneric(List<Map.Entry<WindowKey, Counter>> batch) {
+        for (Map.Entry<WindowKey, Counter> entry : batch) {
+            WindowKey key = entry.getKey();
+            Counter counter = entry.getValue();
+            long delta = counter.pending.get();
+            jdbcTemplate.update(GENERIC_MERGE_SQL,
+                    key.key(), key.windowStart(), delta, key.windowStart() + 2 * counter.windowMillis);
+            Long hits = jdbcTemplate.queryForObject(GENERIC_SELECT_SQL, Long.class, key.key(), key.windowStart());
+            counter.applyFlush(delta, hits == null ? delta : hits);
+        }
+    }
+
+    record WindowKey(String key, long windowStart) {
+    }
+
+    static final class Counter {
+
+        final long windowMillis;
+        final AtomicLong pending = new AtomicLong();
+        volatile long global;
+        volatile boolean touched;
+
+        Counter(long windowMillis) {
+            this.windowMillis = windowMillis;
+        }
+
+        long total() {
+            return global + pending.get();
+        }
+
+        // Publish the new global total before releasing the flushed hits from the local
+        // buffer, so a concurrent reader may briefly double count but never under counts.
+        void applyFlush(long flushed, long hits) {
+            global = hits;
+            pending.addAndGet(-flushed);
+        }
+    }
+}
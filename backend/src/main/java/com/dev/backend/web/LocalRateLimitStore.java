@@ -0,0 +1,130 @@
+package com.dev.backend.web;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimitStore implements RateLimitStore {
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong evicted = new AtomicLong();
+    private final AtomicLong overflowed = new AtomicLong();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final int maxBuckets;
+
+    public LocalRateLimitStore(@Value("${app.rate-limit.max-buckets:100000}") int maxBuckets) {
+        this.maxBuckets = maxBuckets;
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String key, int limit, int windowSeconds) {
+        long now = System.nanoTime();
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxBuckets) {
+                shedIdleBuckets();
+            }
+            if (buckets.size() >= maxBuckets) {
+                // Every tracked client is mid-window. A bucket shared by all newcomers would let
+                // a flood of spoofed keys lock real users out, so the newcomer goes unlimited
+                // until idle buckets free up room.
+                overflowed.incrementAndGet();
+                int safeLimit = Math.max(1, limit);
+                return new RateLimitDecision(true, safeLimit, safeLimit - 1, 0, 0);
+            }
+            bucket = buckets.computeIfAbsent(key, ignored -> new Bucket(now));
+        }
+        return bucket.tryAcquire(now, limit, TimeUnit.SECONDS.toNanos(windowSeconds));
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval-millis:30000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> {
+            if (bucket.isIdle(now)) {
+                evicted.incrementAndGet();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    // Runs the idle sweep early when the map is full; one caller sweeps while the others move on.
+    private void shedIdleBuckets() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            evictIdleBuckets();
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    @Override
+    public int trackedKeys() {
+        return buckets.size();
+    }
+
+    @Override
+    public long evictedCount() {
+        return evicted.get();
+    }
+
+    @Override
+    public long overflowCount() {
+        return overflowed.get();
+    }
+
+    // Generic cell rate algorithm: the whole bucket state is one "theoretical arrival time",
+    // advanced with a CAS. A bucket whose arrival time is in the past is full again, so it can
+    // be evicted without losing any rate information.
+    static final class Bucket {
+
+        private static final VarHandle TAT;
+
+        static {
+            try {
+                TAT = MethodHandles.lookup().findVarHandle(Bucket.class, "tat", long.class);
+            } catch (ReflectiveOperationException ex) {
+                throw new ExceptionInInitializerError(ex);
+            }
+        }
+
+        private volatile long tat;
+
+        Bucket(long now) {
+            this.tat = now;
+        }
+
+        RateLimitDecision tryAcquire(long now, int limit, long windowNanos) {
+            int safeLimit = Math.max(1, limit);
+            long interval = Math.max(1, windowNanos / safeLimit);
+            while (true) {
+                long current = tat;
+                long next = Math.max(current, now) + interval;
+                long ahead = next - now;
+                if (ahead > windowNanos) {
+                    return new RateLimitDecision(false, safeLimit, 0, current - now, ahead - windowNanos);
+                }
+                if (TAT.compareAndSet(this, current, next)) {
+                    return new RateLimitDecision(true, safeLimit, (windowNanos - ahead) / interval, ahead, 0);
+                }
+            }
+        }
+
+        boolean isIdle(long now) {
+            return tat - now <= 0;
+        }
+    }
+}
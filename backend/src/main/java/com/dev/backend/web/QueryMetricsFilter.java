@@ -0,0 +1,93 @@
+package com.dev.backend.web;
+
+import com.dev.backend.metrics.Histogram;
+import com.dev.backend.metrics.RequestQueryStats;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// Aggregates per-request database work by endpoint (method plus templated path), so chatty
+// endpoints show up as high statement counts without turning on SQL logging. Runs inside
+// CorrelationIdFilter, so the per-request debug line carries the correlation id.
+@Component
+public class QueryMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryMetricsFilter.class);
+
+    private final Map<String, EndpointQueryMetrics> endpoints = new ConcurrentHashMap<>();
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.begin(request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.end();
+            String endpoint = RouteKeys.of(request);
+            endpoints.computeIfAbsent(endpoint, ignored -> new EndpointQueryMetrics()).record(stats);
+            if (log.isDebugEnabled()) {
+                log.debug("{} ran {} statements in {} ms and loaded {} entities",
+                        endpoint,
+                        stats.statements(),
+                        TimeUnit.NANOSECONDS.toMillis(stats.dbNanos()),
+                        stats.entityLoads());
+            }
+        }
+    }
+
+    public Map<String, EndpointQueryMetrics> snapshot() {
+        return new TreeMap<>(endpoints);
+    }
+
+    public static final class EndpointQueryMetrics {
+
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder slowQueries = new LongAdder();
+        private final Histogram statements = new Histogram(0, 1, 2, 3, 5, 10, 20, 50, 100, 250);
+        private final Histogram dbMillis = new Histogram(1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500);
+        private final Histogram entityLoads = new Histogram(0, 1, 10, 50, 100, 500, 1000, 5000);
+
+        void record(RequestQueryStats stats) {
+            requests.increment();
+            slowQueries.add(stats.slowQueries());
+            statements.record(stats.statements());
+            dbMillis.record(TimeUnit.NANOSECONDS.toMillis(stats.dbNanos()));
+            entityLoads.record(stats.entityLoads());
+        }
+
+        public long requests() {
+            return requests.sum();
+        }
+
+        public long slowQueries() {
+            return slowQueries.sum();
+        }
+
+        public Histogram.Snapshot statements() {
+            return statements.snapshot();
+        }
+
+        public Histogram.Snapshot dbMillis() {
+            return dbMillis.snapshot();
+        }
+
+        public Histogram.Snapshot entityLoads() {
+            return entityLoads.snapshot();
+        }
+    }
+}
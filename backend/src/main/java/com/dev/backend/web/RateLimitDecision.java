@@ -0,0 +1,10 @@
+package com.dev.backend.web;
+
+public record RateLimitDecision(
+        boolean allowed,
+        int limit,
+        long remaining,
+        long resetNanos,
+        long retryAfterNanos
+) {
+}
@@ -9,10 +9,10 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
@@ -22,16 +22,24 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Component
 public class RateLimitFilter extends OncePerRequestFilter {
 
+    public static final String LIMIT_HEADER = "RateLimit-Limit";
+    public static final String REMAINING_HEADER = "RateLimit-Remaining";
+    public static final String RESET_HEADER = "RateLimit-Reset";
+
     private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
     private static final List<String> AUTH_PATHS = List.of("/api/auth/**");
     private static final List<String> SENSITIVE_PATHS = List.of(
             "/api/tasks/*/status",
             "/api/applications/*/stage",
+            "/api/applications/stage",
+            "/api/applications/import",
+            "/api/export",
             "/api/audit-events"
     );
 
     private final ObjectMapper objectMapper;
-    private final Map<String, WindowCounter> counters = new ConcurrentHashMap<>();
+    private final RateLimitStore rateLimitStore;
+    private final AtomicLong rejected = new AtomicLong();
 
     private final int authLimit;
     private final int authWindowSeconds;
@@ -40,12 +48,14 @@ public class RateLimitFilter extends OncePerRequestFilter {
 
     public RateLimitFilter(
             ObjectMapper objectMapper,
+            RateLimitStore rateLimitStore,
             @Value("${app.rate-limit.auth.requests:100}") int authLimit,
             @Value("${app.rate-limit.auth.window-seconds:60}") int authWindowSeconds,
             @Value("${app.rate-limit.sensitive.requests:120}") int sensitiveLimit,
             @Value("${app.rate-limit.sensitive.window-seconds:60}") int sensitiveWindowSeconds
     ) {
         this.objectMapper = objectMapper;
+        this.rateLimitStore = rateLimitStore;
         this.authLimit = authLimit;
         this.authWindowSeconds = authWindowSeconds;
         this.sensitiveLimit = sensitiveLimit;
@@ -61,14 +71,18 @@ public class RateLimitFilter extends OncePerRequestFilter {
         String path = request.getRequestURI();
         String clientId = clientId(request);
 
+        RateLimitDecision decision = null;
         if (matches(path, AUTH_PATHS)) {
-            if (!allow(clientId + ":auth", authLimit, authWindowSeconds)) {
-                writeRateLimited(request, response);
-                return;
-            }
+            decision = allow(clientId + ":auth", authLimit, authWindowSeconds);
         } else if (matches(path, SENSITIVE_PATHS)) {
-            if (!allow(clientId + ":sensitive", sensitiveLimit, sensitiveWindowSeconds)) {
-                writeRateLimited(request, response);
+            decision = allow(clientId + ":sensitive", sensitiveLimit, sensitiveWindowSeconds);
+        }
+
+        if (decision != null) {
+            writeRateLimitHeaders(response, decision);
+            if (!decision.allowed()) {
+                rejected.incrementAndGet();
+                writeRateLimited(request, response, decision);
                 return;
             }
         }
@@ -76,16 +90,24 @@ public class RateLimitFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private boolean allow(String key, int limit, int windowSeconds) {
-        long now = System.currentTimeMillis();
-        WindowCounter counter = counters.compute(key, (ignored, existing) -> {
-            if (existing == null || now - existing.windowStart >= windowSeconds * 1000L) {
-                return new WindowCounter(now, new AtomicInteger(1));
-            }
-            existing.counter.incrementAndGet();
-            return existing;
-        });
-        return counter.counter.get() <= limit;
+    public int bucketCount() {
+        return rateLimitStore.trackedKeys();
+    }
+
+    public long rejectedCount() {
+        return rejected.get();
+    }
+
+    public long evictedCount() {
+        return rateLimitStore.evictedCount();
+    }
+
+    public long overflowCount() {
+        return rateLimitStore.overflowCount();
+    }
+
+    RateLimitDecision allow(String key, int limit, int windowSeconds) {
+        return rateLimitStore.tryAcquire(key, limit, windowSeconds);
     }
 
     private boolean matches(String path, List<String> patterns) {
@@ -100,8 +122,16 @@ public class RateLimitFilter extends OncePerRequestFilter {
         return request.getRemoteAddr();
     }
 
-    private void writeRateLimited(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    private void writeRateLimitHeaders(HttpServletResponse response, RateLimitDecision decision) {
+        response.setHeader(LIMIT_HEADER, String.valueOf(decision.limit()));
+        response.setHeader(REMAINING_HEADER, String.valueOf(decision.remaining()));
+        response.setHeader(RESET_HEADER, String.valueOf(toSeconds(decision.resetNanos())));
+    }
+
+    private void writeRateLimited(HttpServletRequest request, HttpServletResponse response, RateLimitDecision decision)
+            throws IOException {
         response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, toSeconds(decision.retryAfterNanos()))));
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         ErrorResponse body = new ErrorResponse(
                 OffsetDateTime.now(),
@@ -114,13 +144,7 @@ public class RateLimitFilter extends OncePerRequestFilter {
         response.getWriter().write(objectMapper.writeValueAsString(body));
     }
 
-    private static class WindowCounter {
-        private final long windowStart;
-        private final AtomicInteger counter;
-
-        private WindowCounter(long windowStart, AtomicInteger counter) {
-            this.windowStart = windowStart;
-            this.counter = counter;
-        }
+    private static long toSeconds(long nanos) {
+        return (Math.max(0, nanos) + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
     }
 }
@@ -0,0 +1,16 @@
+package com.dev.backend.web;
+
+public interface RateLimitStore {
+
+    RateLimitDecision tryAcquire(String key, int limit, int windowSeconds);
+
+    int trackedKeys();
+
+    default long evictedCount() {
+        return 0;
+    }
+
+    default long overflowCount() {
+        return 0;
+    }
+}
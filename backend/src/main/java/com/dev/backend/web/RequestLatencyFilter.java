@@ -0,0 +1,106 @@
+package com.dev.backend.web;
+
+import com.dev.backend.metrics.Histogram;
+import com.dev.backend.metrics.LatencyRecorder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// Records request latency per route (method plus templated path) into striped recorders, so
+// concurrent requests never contend on a shared counter. Sits just inside CorrelationIdFilter so
+// rate limiting and auth are part of the measured time. Percentiles are reported per interval:
+// every roll takes a snapshot of the cumulative counts and keeps the difference from the last one.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class RequestLatencyFilter extends OncePerRequestFilter {
+
+    // Prometheus buckets in microseconds, 1 ms to 10 s.
+    private static final long[] BUCKETS = {
+            1_000, 2_500, 5_000, 10_000, 25_000, 50_000, 100_000, 250_000,
+            500_000, 1_000_000, 2_500_000, 5_000_000, 10_000_000
+    };
+
+    private final Map<String, RouteLatency> routes = new ConcurrentHashMap<>();
+    private final int stripes = Runtime.getRuntime().availableProcessors();
+
+    private volatile Instant intervalStart = Instant.now();
+    private volatile Instant intervalEnd = intervalStart;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        long started = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started);
+            String route = RouteKeys.of(request);
+            RouteLatency latency = routes.get(route);
+            if (latency == null) {
+                latency = routes.computeIfAbsent(route, ignored -> new RouteLatency(new LatencyRecorder(stripes)));
+            }
+            latency.recorder.record(micros);
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.metrics.latency-interval-millis:60000}")
+    public void rollInterval() {
+        for (RouteLatency latency : routes.values()) {
+            LatencyRecorder.Counts now = latency.recorder.counts();
+            latency.lastInterval = now.since(latency.intervalStart);
+            latency.intervalStart = now;
+        }
+        intervalStart = intervalEnd;
+        intervalEnd = Instant.now();
+    }
+
+    // Cumulative latency per route as Prometheus buckets, in microseconds.
+    public Map<String, Histogram.Snapshot> snapshot() {
+        Map<String, Histogram.Snapshot> snapshot = new TreeMap<>();
+        routes.forEach((route, latency) -> snapshot.put(route, latency.recorder.counts().toSnapshot(BUCKETS)));
+        return snapshot;
+    }
+
+    // Latency per route over the last completed interval, in microseconds.
+    public Map<String, LatencyRecorder.Counts> lastInterval() {
+        Map<String, LatencyRecorder.Counts> snapshot = new TreeMap<>();
+        routes.forEach((route, latency) -> snapshot.put(route, latency.lastInterval));
+        return snapshot;
+    }
+
+    public Instant intervalStart() {
+        return intervalStart;
+    }
+
+    public Instant intervalEnd() {
+        return intervalEnd;
+    }
+
+    private static final class RouteLatency {
+
+        private static final LatencyRecorder.Counts EMPTY = new LatencyRecorder(1).counts();
+
+        private final LatencyRecorder recorder;
+        private volatile LatencyRecorder.Counts intervalStart = EMPTY;
+        private volatile LatencyRecorder.Counts lastInterval = EMPTY;
+
+        private RouteLatency(LatencyRecorder recorder) {
+            this.recorder = recorder;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.dev.backend.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Set;
+import org.springframework.web.servlet.HandlerMapping;
+
+// Builds the "METHOD /templated/path" key that per-route metrics are stored under. Both parts
+// come from a fixed set, so clients can't grow the metric maps: methods outside the standard
+// ones become OTHER, and every request that matched no handler shares one key.
+final class RouteKeys {
+
+    static final String OTHER_METHOD = "OTHER";
+    static final String UNMATCHED = OTHER_METHOD + " unmatched";
+
+    private static final Set<String> STANDARD_METHODS =
+            Set.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE");
+
+    private RouteKeys() {
+    }
+
+    static String of(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return UNMATCHED;
+        }
+        String method = request.getMethod();
+        return (STANDARD_METHODS.contains(method) ? method : OTHER_METHOD) + " " + pattern;
+    }
+}
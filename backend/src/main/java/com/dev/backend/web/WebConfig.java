@@ -1,5 +1,7 @@
 package com.dev.backend.web;
 
+import com.dev.backend.controller.ApplicationController;
+import com.dev.backend.controller.DashboardController;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,6 +9,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
 import org.springframework.core.annotation.Order;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -33,13 +36,14 @@ public class WebConfig implements WebMvcConfigurer {
                 "Content-Type",
                 "Accept",
                 "Origin",
-                "X-Requested-With"
+                "X-Requested-With",
+                HttpHeaders.IF_MATCH
         };
         registry.addMapping("/api/**")
                 .allowedOrigins(allowedOrigins.toArray(new String[0]))
                 .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                 .allowedHeaders(allowedHeaders)
-                .exposedHeaders(RequestCorrelation.HEADER)
+                .exposedHeaders(exposedHeaders().toArray(new String[0]))
                 .allowCredentials(false)
                 .maxAge(3600);
     }
@@ -59,13 +63,27 @@ public class WebConfig implements WebMvcConfigurer {
                 "Content-Type",
                 "Accept",
                 "Origin",
-                "X-Requested-With"
+                "X-Requested-With",
+                HttpHeaders.IF_MATCH
         ));
-        config.setExposedHeaders(List.of(RequestCorrelation.HEADER));
+        config.setExposedHeaders(exposedHeaders());
         config.setAllowCredentials(false);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/api/**", config);
         return new CorsFilter(source);
     }
+
+    private List<String> exposedHeaders() {
+        return List.of(
+                RequestCorrelation.HEADER,
+                HttpHeaders.ETAG,
+                ApplicationController.NEXT_CURSOR_HEADER,
+                DashboardController.SERVER_TIMING_HEADER,
+                RateLimitFilter.LIMIT_HEADER,
+                RateLimitFilter.REMAINING_HEADER,
+                RateLimitFilter.RESET_HEADER,
+                HttpHeaders.RETRY_AFTER
+        );
+    }
 }
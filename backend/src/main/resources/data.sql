@@ -3,19 +3,19 @@ VALUES
     ('00000000-0000-0000-0000-000000000001', 'demo@example.com', '$2a$10$7EqJtq98hPqEX7fNZaFWoO5T0C5Ul9kY01/1i/8uRIXV4Yg8Zb9oS', true, now(), false, null, now(), now())
 ON CONFLICT (id) DO NOTHING;
 
-INSERT INTO applications (id, company, role, job_url, location, notes, stage, last_touch_at, stage_changed_at, user_id, created_at, updated_at)
+INSERT INTO applications (id, company, role, job_url, location, notes, stage, last_touch_at, stage_changed_at, user_id, created_at, updated_at, version)
 VALUES
-    (1, 'Acme', 'Backend Engineer', 'https://example.com/jobs/1', 'Remote', 'Referred by Sam', 'SAVED', now(), now(), '00000000-0000-0000-0000-000000000001', now(), now()),
-    (2, 'Beta Corp', 'Full Stack Developer', 'https://example.com/jobs/2', 'New York, NY', 'Applied via LinkedIn', 'APPLIED', now(), now(), '00000000-0000-0000-0000-000000000001', now(), now())
+    (1, 'Acme', 'Backend Engineer', 'https://example.com/jobs/1', 'Remote', 'Referred by Sam', 'SAVED', now(), now(), '00000000-0000-0000-0000-000000000001', now(), now(), 0),
+    (2, 'Beta Corp', 'Full Stack Developer', 'https://example.com/jobs/2', 'New York, NY', 'Applied via LinkedIn', 'APPLIED', now(), now(), '00000000-0000-0000-0000-000000000001', now(), now(), 0)
 ON CONFLICT (id) DO NOTHING;
 
 UPDATE applications
 SET stage_changed_at = COALESCE(stage_changed_at, created_at, last_touch_at, now());
 
-INSERT INTO tasks (id, application_id, title, status, due_at, snooze_until, notes, completed_at, created_at, updated_at)
+INSERT INTO tasks (id, application_id, title, status, due_at, snooze_until, notes, completed_at, created_at, updated_at, version)
 VALUES
-    (1, 1, 'Follow up with recruiter', 'OPEN', now() + interval '2 days', null, 'Send a short follow-up email', null, now(), now()),
-    (2, 2, 'Prep for phone screen', 'OPEN', now() + interval '4 days', null, 'Review role requirements', null, now(), now())
+    (1, 1, 'Follow up with recruiter', 'OPEN', now() + interval '2 days', null, 'Send a short follow-up email', null, now(), now(), 0),
+    (2, 2, 'Prep for phone screen', 'OPEN', now() + interval '4 days', null, 'Review role requirements', null, now(), now(), 0)
 ON CONFLICT (id) DO NOTHING;
 
 INSERT INTO stage_events (id, application_id, from_stage, to_stage, note, actor, created_at)
@@ -0,0 +1,35 @@
+package com.dev.backend.config;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyLimitedDataSourceTest {
+
+    private final ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:concurrency-limit;DB_CLOSE_DELAY=-1", "sa", ""),
+            1,
+            50
+    );
+
+    @Test
+    void connectionsBeyondTheLimitTimeOutUntilOneIsClosed() throws Exception {
+        Connection first = dataSource.getConnection();
+        assertThat(dataSource.inUse()).isEqualTo(1);
+
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+        first.close();
+        first.close();
+        assertThat(dataSource.inUse()).isZero();
+
+        try (Connection second = dataSource.getConnection()) {
+            assertThat(second.isValid(1)).isTrue();
+        }
+        assertThat(dataSource.inUse()).isZero();
+    }
+}
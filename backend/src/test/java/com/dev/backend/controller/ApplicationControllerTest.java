@@ -4,20 +4,42 @@ import com.dev.backend.dto.ApplicationUpdateRequest;
 import com.dev.backend.model.Application;
 import com.dev.backend.model.Stage;
 import com.dev.backend.model.StageEvent;
+import com.dev.backend.model.Task;
+import com.dev.backend.model.TaskStatus;
 import com.dev.backend.model.User;
+import com.dev.backend.model.UserDailyActivity;
 import com.dev.backend.repository.ApplicationRepository;
 import com.dev.backend.repository.StageEventRepository;
+import com.dev.backend.repository.TaskRepository;
+import com.dev.backend.repository.UserDailyActivityRepository;
 import com.dev.backend.repository.UserRepository;
 import com.dev.backend.service.JwtService;
+import com.dev.backend.service.StageCounterService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -26,11 +48,15 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -57,6 +83,23 @@ class ApplicationControllerTest {
     @Autowired
     private StageEventRepository stageEventRepository;
 
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserDailyActivityRepository userDailyActivityRepository;
+
+    @SpyBean
+    private StageCounterService stageCounterService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final Map<UUID, String> tokens = new HashMap<>();
+
     @Test
     void listApplicationsReturnsOnlyOwnedRows() throws Exception {
         User owner = createUser("owner@example.com");
@@ -109,6 +152,57 @@ class ApplicationControllerTest {
                 .andExpect(jsonPath("$[1].id", is(savedOld.getId().intValue())));
     }
 
+    @Test
+    void listApplicationsPaginatesWithCursor() throws Exception {
+        User owner = createUser("cursor-owner@example.com");
+        LocalDateTime touchedAt = LocalDateTime.now().minusDays(1).withNano(0);
+        Application newest = createApplication(owner.getId(), "NewestCo", "Engineer");
+        newest.setLastTouchAt(LocalDateTime.now());
+        applicationRepository.save(newest);
+        Application tiedFirst = createApplication(owner.getId(), "TiedFirstCo", "Engineer");
+        tiedFirst.setLastTouchAt(touchedAt);
+        applicationRepository.save(tiedFirst);
+        Application tiedSecond = createApplication(owner.getId(), "TiedSecondCo", "Engineer");
+        tiedSecond.setLastTouchAt(touchedAt);
+        applicationRepository.save(tiedSecond);
+
+        String cursor = mockMvc.perform(get("/api/applications")
+                        .param("limit", "2")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", is(newest.getId().intValue())))
+                .andExpect(jsonPath("$[1].id", is(tiedSecond.getId().intValue())))
+                .andExpect(header().exists(ApplicationController.NEXT_CURSOR_HEADER))
+                .andReturn()
+                .getResponse()
+                .getHeader(ApplicationController.NEXT_CURSOR_HEADER);
+
+        mockMvc.perform(get("/api/applications")
+                        .param("limit", "2")
+                        .param("cursor", cursor)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(tiedFirst.getId().intValue())))
+                .andExpect(header().doesNotExist(ApplicationController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void listApplicationsRejectsInvalidCursorAndLimit() throws Exception {
+        User owner = createUser("cursor-invalid@example.com");
+
+        mockMvc.perform(get("/api/applications")
+                        .param("cursor", "not-a-cursor")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner)))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/applications")
+                        .param("limit", "500")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void createApplicationSetsDefaults() throws Exception {
         User owner = createUser("create-owner@example.com");
@@ -134,6 +228,42 @@ class ApplicationControllerTest {
                 .andExpect(jsonPath("$.lastTouchAt", notNullValue()));
     }
 
+    @Test
+    void concurrentFirstCreatesShareOneCounterRow() throws Exception {
+        User owner = createUser("create-concurrent@example.com");
+        String token = bearerToken(owner);
+        String payload = """
+                {"company": "RaceCo", "role": "Engineer"}
+                """;
+        int writers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                statuses.add(executor.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(post("/api/applications")
+                                    .header(HttpHeaders.AUTHORIZATION, token)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(payload))
+                            .andReturn().getResponse().getStatus();
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> status : statuses) {
+                assertThat(status.get(10, TimeUnit.SECONDS)).isEqualTo(201);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        mockMvc.perform(get("/api/dashboard/summary")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stageCounts.SAVED", is(writers)));
+    }
+
     @Test
     void createApplicationRequiresAuth() throws Exception {
         String payload = """
@@ -221,6 +351,60 @@ class ApplicationControllerTest {
                 .andExpect(jsonPath("$.role", is("Manager")));
     }
 
+    @Test
+    void updateWithStaleIfMatchIsRejected() throws Exception {
+        User owner = createUser("update-if-match@example.com");
+        Application app = createApplication(owner.getId(), "OldCo", "Engineer");
+
+        ApplicationUpdateRequest request = new ApplicationUpdateRequest();
+        request.setCompany("FirstCo");
+        request.setRole("Manager");
+
+        mockMvc.perform(put("/api/applications/{id}", app.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.version", is(1)))
+                .andExpect(jsonPath("$.stage", is("SAVED")))
+                .andExpect(jsonPath("$.createdAt", notNullValue()));
+
+        // A second tab still holding version 0 must not overwrite the first edit.
+        request.setCompany("SecondCo");
+        mockMvc.perform(put("/api/applications/{id}", app.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(patch("/api/applications/{id}/stage", app.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"stage\": \"APPLIED\"}"))
+                .andExpect(status().isPreconditionFailed());
+        assertThat(applicationRepository.findById(app.getId()).orElseThrow())
+                .extracting(Application::getCompany, Application::getStage, Application::getVersion)
+                .containsExactly("FirstCo", Stage.SAVED, 1L);
+
+        mockMvc.perform(patch("/api/applications/{id}/stage", app.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                        .header(HttpHeaders.IF_MATCH, "\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"stage\": \"APPLIED\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""));
+        // Rows that don't exist are still 404, whatever the tag.
+        mockMvc.perform(put("/api/applications/{id}", app.getId() + 100_000)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                        .header(HttpHeaders.IF_MATCH, "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void updateRejectsInvalidPayload() throws Exception {
         User owner = createUser("update-invalid@example.com");
@@ -267,7 +451,10 @@ class ApplicationControllerTest {
 
         mockMvc.perform(delete("/api/applications/{id}", app.getId())
                         .header(HttpHeaders.AUTHORIZATION, bearerToken(owner)))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.applicationId", is(app.getId().intValue())))
+                .andExpect(jsonPath("$.tasksDeleted", is(0)))
+                .andExpect(jsonPath("$.stageEventsDeleted", is(0)));
 
         mockMvc.perform(get("/api/applications")
                         .header(HttpHeaders.AUTHORIZATION, bearerToken(owner)))
@@ -338,6 +525,285 @@ class ApplicationControllerTest {
         assertThat(event.getToStage()).isEqualTo(Stage.APPLIED);
     }
 
+    @Test
+    void importCsvInsertsValidRowsAndReportsInvalidOnes() throws Exception {
+        User owner = createUser("import-csv@example.com");
+        String csv = "Company,Role,Job URL,Location,Notes\r\n"
+                + "Acme,Engineer,https://acme.example/jobs/1,Remote,\"Referral, from \"\"Sam\"\"\"\r\n"
+                + ",Analyst,,,\r\n"
+                + "Globex,\"Staff\nEngineer\",,,\r\n";
+
+        mockMvc.perform(post("/api/applications/import")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received", is(3)))
+                .andExpect(jsonPath("$.imported", is(2)))
+                .andExpect(jsonPath("$.rejected", is(1)))
+                .andExpect(jsonPath("$.rows[0].status", is("created")))
+                .andExpect(jsonPath("$.rows[0].id", notNullValue()))
+                .andExpect(jsonPath("$.rows[1].status", is("invalid")))
+                .andExpect(jsonPath("$.rows[1].errors[0].field", is("company")))
+                .andExpect(jsonPath("$.rows[2].status", is("created")));
+
+        List<Application> imported = applicationRepository.findAllByUserId(
+                owner.getId(), org.springframework.data.domain.Sort.by("company"));
+        assertThat(imported).extracting(Application::getCompany).containsExactly("Acme", "Globex");
+        assertThat(imported.get(0).getNotes()).isEqualTo("Referral, from \"Sam\"");
+        assertThat(imported.get(1).getRole()).isEqualTo("Staff\nEngineer");
+        assertThat(imported).allSatisfy(application -> assertThat(application.getStage()).isEqualTo(Stage.SAVED));
+
+        // The first import backfills the counter row from rows it already wrote; later ones add.
+        mockMvc.perform(get("/api/dashboard/summary")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner)))
+                .andExpect(jsonPath("$.stageCounts.SAVED", is(2)));
+        mockMvc.perform(post("/api/applications/import")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                        .contentType("text/csv")
+                        .content("Company,Role\r\nHooli,Engineer\r\n"))
+                .andExpect(jsonPath("$.imported", is(1)));
+        mockMvc.perform(get("/api/dashboard/summary")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner)))
+                .andExpect(jsonPath("$.stageCounts.SAVED", is(3)));
+    }
+
+    @Test
+    void importNdjsonFlagsMalformedLines() throws Exception {
+        User owner = createUser("import-ndjson@example.com");
+        String ndjson = "{\"company\": \"Initech\", \"role\": \"Developer\"}\n"
+                + "{not json\n"
+                + "\n"
+                + "{\"company\": \"Umbrella\", \"role\": \"Scientist\", \"location\": \"Raccoon City\"}\n";
+
+        mockMvc.perform(post("/api/applications/import")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", is(2)))
+                .andExpect(jsonPath("$.rejected", is(1)))
+                .andExpect(jsonPath("$.rows[1].status", is("invalid")))
+                .andExpect(jsonPath("$.rows[2].id", notNullValue()));
+
+        assertThat(applicationRepository.findAllByUserId(owner.getId(), org.springframework.data.domain.Sort.unsorted()))
+                .hasSize(2);
+    }
+
+    @Test
+    void importCsvRequiresCompanyAndRoleColumns() throws Exception {
+        User owner = createUser("import-header@example.com");
+
+        mockMvc.perform(post("/api/applications/import")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                        .contentType("text/csv")
+                        .content("name,title\nAcme,Engineer\n"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void deleteCostsTheSameStatementsHoweverManyChildren() throws Exception {
+        User owner = createUser("delete-bulk@example.com");
+        Application small = createApplication(owner.getId(), "SmallCo", "Engineer");
+        Application large = createApplication(owner.getId(), "LargeCo", "Engineer");
+        for (Application application : List.of(small, large)) {
+            mockMvc.perform(patch("/api/applications/{id}/stage", application.getId())
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"stage\": \"APPLIED\"}"))
+                    .andExpect(status().isOk());
+        }
+        addTasks(small, 1);
+        addTasks(large, 25);
+        for (int i = 0; i < 25; i++) {
+            StageEvent event = new StageEvent();
+            event.setApplication(large);
+            event.setFromStage(Stage.SAVED);
+            event.setToStage(Stage.APPLIED);
+            event.setCreatedAt(LocalDateTime.now().minusDays(30));
+            stageEventRepository.save(event);
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(delete("/api/applications/{id}", large.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasksDeleted", is(25)))
+                .andExpect(jsonPath("$.stageEventsDeleted", is(26)));
+        long largeStatements = statistics.getPrepareStatementCount();
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(1);
+
+        // Only the large application's transition comes out of today's activity.
+        LocalDate today = LocalDate.now();
+        assertThat(userDailyActivityRepository.findAllByUserIdAndDayBetween(owner.getId(), today, today))
+                .singleElement()
+                .extracting(UserDailyActivity::getStageChanges)
+                .isEqualTo(1L);
+
+        statistics.clear();
+        mockMvc.perform(delete("/api/applications/{id}", small.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasksDeleted", is(1)))
+                .andExpect(jsonPath("$.stageEventsDeleted", is(1)));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(largeStatements);
+    }
+
+    @Test
+    void stageTransitionRejectsMovesTheStageMachineForbids() throws Exception {
+        User owner = createUser("stage-forbidden@example.com");
+        Application application = createApplication(owner.getId(), "ClosedCo", "Engineer");
+        application.setStage(Stage.REJECTED);
+        applicationRepository.save(application);
+
+        mockMvc.perform(patch("/api/applications/{id}/stage", application.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"stage\": \"APPLIED\"}"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(applicationRepository.findById(application.getId()).orElseThrow().getStage()).isEqualTo(Stage.REJECTED);
+        assertThat(stageEventRepository.findAllByApplicationUserId(owner.getId())).isEmpty();
+    }
+
+    @Test
+    void stageTransitionThatLosesTheRaceLeavesNoTrace() throws Exception {
+        User owner = createUser("stage-race@example.com");
+        Application application = createApplication(owner.getId(), "RaceCo", "Engineer");
+        Map<Stage, Long> countsBefore = stageCounterService.snapshot(owner.getId());
+        // Another writer moves the row after it was read but before the compare-and-set runs; the
+        // counters have been adjusted by then, so the rollback has to undo that too.
+        doAnswer(invocation -> {
+            invocation.callRealMethod();
+            CompletableFuture.runAsync(() -> jdbcTemplate.update(
+                    "update applications set stage = 'WITHDRAWN' where id = ?", application.getId()))
+                    .get(10, TimeUnit.SECONDS);
+            return null;
+        }).when(stageCounterService).move(eq(owner.getId()), any(), any());
+
+        mockMvc.perform(patch("/api/applications/{id}/stage", application.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"stage\": \"APPLIED\"}"))
+                .andExpect(status().isConflict());
+
+        assertThat(applicationRepository.findById(application.getId()).orElseThrow().getStage())
+                .isEqualTo(Stage.WITHDRAWN);
+        assertThat(stageEventRepository.findAllByApplicationUserId(owner.getId())).isEmpty();
+        assertThat(stageCounterService.snapshot(owner.getId())).isEqualTo(countsBefore);
+        LocalDate today = LocalDate.now();
+        assertThat(userDailyActivityRepository.findAllByUserIdAndDayBetween(owner.getId(), today, today)).isEmpty();
+    }
+
+    @Test
+    void batchStageUpdateMovesValidItemsAndReportsTheRest() throws Exception {
+        User owner = createUser("batch-owner@example.com");
+        User other = createUser("batch-other@example.com");
+        Application saved = createApplication(owner.getId(), "SavedCo", "Engineer");
+        Application applied = createApplication(owner.getId(), "AppliedCo", "Engineer");
+        applied.setStage(Stage.APPLIED);
+        applicationRepository.save(applied);
+        Application rejected = createApplication(owner.getId(), "RejectedCo", "Engineer");
+        rejected.setStage(Stage.REJECTED);
+        applicationRepository.save(rejected);
+        Application foreign = createApplication(other.getId(), "OtherCo", "Analyst");
+
+        String payload = objectMapper.writeValueAsString(java.util.Map.of(
+                "ids", List.of(saved.getId(), applied.getId(), rejected.getId(), foreign.getId(), saved.getId()),
+                "stage", "WITHDRAWN"
+        ));
+        mockMvc.perform(patch("/api/applications/stage")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated", is(2)))
+                .andExpect(jsonPath("$.rejected", is(2)))
+                .andExpect(jsonPath("$.results", hasSize(4)))
+                .andExpect(jsonPath("$.results[0].status", is("updated")))
+                .andExpect(jsonPath("$.results[0].fromStage", is("SAVED")))
+                .andExpect(jsonPath("$.results[1].status", is("updated")))
+                .andExpect(jsonPath("$.results[1].fromStage", is("APPLIED")))
+                .andExpect(jsonPath("$.results[2].status", is("invalid_transition")))
+                .andExpect(jsonPath("$.results[3].status", is("not_found")));
+
+        assertThat(applicationRepository.findById(saved.getId()).orElseThrow().getStage()).isEqualTo(Stage.WITHDRAWN);
+        assertThat(applicationRepository.findById(applied.getId()).orElseThrow().getStage()).isEqualTo(Stage.WITHDRAWN);
+        assertThat(applicationRepository.findById(rejected.getId()).orElseThrow().getStage()).isEqualTo(Stage.REJECTED);
+        assertThat(applicationRepository.findById(foreign.getId()).orElseThrow().getStage()).isEqualTo(Stage.SAVED);
+        assertThat(stageEventRepository.findAllByApplicationIdAndApplicationUserIdOrderByCreatedAtDesc(saved.getId(), owner.getId()))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getFromStage()).isEqualTo(Stage.SAVED);
+                    assertThat(event.getToStage()).isEqualTo(Stage.WITHDRAWN);
+                });
+
+        mockMvc.perform(patch("/api/applications/stage")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated", is(0)))
+                .andExpect(jsonPath("$.results[0].status", is("unchanged")));
+    }
+
+    @Test
+    void batchStageUpdateCostsTheSameStatementsHoweverManyItems() throws Exception {
+        User owner = createUser("batch-bulk@example.com");
+        List<Long> few = new ArrayList<>();
+        List<Long> many = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            few.add(createApplication(owner.getId(), "FewCo", "Engineer").getId());
+        }
+        for (int i = 0; i < 20; i++) {
+            many.add(createApplication(owner.getId(), "ManyCo", "Engineer").getId());
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Warm up the stage counter row so both batches take the same path.
+        moveAll(owner, few, Stage.APPLIED);
+        statistics.clear();
+        moveAll(owner, few, Stage.INTERVIEW);
+        long fewStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+        moveAll(owner, many, Stage.APPLIED);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(fewStatements);
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(1);
+        assertThat(stageEventRepository.findAllByApplicationUserId(owner.getId())).hasSize(24);
+    }
+
+    @Test
+    void batchStageUpdateRejectsEmptyBatches() throws Exception {
+        User owner = createUser("batch-empty@example.com");
+
+        mockMvc.perform(patch("/api/applications/stage")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [], \"stage\": \"APPLIED\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void moveAll(User owner, List<Long> ids, Stage stage) throws Exception {
+        mockMvc.perform(patch("/api/applications/stage")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(java.util.Map.of("ids", ids, "stage", stage))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated", is(ids.size())));
+    }
+
+    private void addTasks(Application application, int count) {
+        for (int i = 0; i < count; i++) {
+            Task task = new Task();
+            task.setApplication(application);
+            task.setTitle("Task " + i);
+            task.setStatus(TaskStatus.OPEN);
+            taskRepository.save(task);
+        }
+    }
+
     private User createUser(String email) {
         User user = new User();
         user.setEmail(email);
@@ -354,7 +820,8 @@ class ApplicationControllerTest {
         return applicationRepository.save(application);
     }
 
+    // One token per user and test, so statement counts never include verifying a fresh token.
     private String bearerToken(User user) {
-        return "Bearer " + jwtService.generateToken(user);
+        return tokens.computeIfAbsent(user.getId(), ignored -> "Bearer " + jwtService.generateToken(user));
     }
 }
@@ -1,22 +1,31 @@
 package com.dev.backend.controller;
 
+import com.dev.backend.model.Application;
 import com.dev.backend.model.AuditEvent;
+import com.dev.backend.model.Stage;
 import com.dev.backend.model.User;
+import com.dev.backend.repository.ApplicationRepository;
 import com.dev.backend.repository.AuditEventRepository;
 import com.dev.backend.repository.UserRepository;
+import com.dev.backend.service.AuditEventWriter;
 import com.dev.backend.service.JwtService;
+import com.dev.backend.web.RequestCorrelation;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -37,6 +46,12 @@ class AuditControllerTest {
     @Autowired
     private AuditEventRepository auditEventRepository;
 
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private AuditEventWriter auditEventWriter;
+
     @Test
     void auditFeedOrdersNewestFirstAndPaginates() throws Exception {
         User owner = createUser("audit-owner@example.com");
@@ -81,7 +96,53 @@ class AuditControllerTest {
                 .andExpect(jsonPath("$[0].payload", is("\"owned\"")));
     }
 
-    private AuditEvent buildEvent(java.util.UUID userId, String payload, LocalDateTime createdAt) {
+    @Test
+    void stageChangeIsWrittenAsynchronouslyWithCorrelationId() throws Exception {
+        User owner = createUser("audit-async@example.com");
+        Application application = new Application();
+        application.setCompany("AsyncCo");
+        application.setRole("Engineer");
+        application.setStage(Stage.SAVED);
+        application.setUserId(owner.getId());
+        applicationRepository.save(application);
+
+        mockMvc.perform(patch("/api/applications/{id}/stage", application.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                        .header(RequestCorrelation.HEADER, "audit-async-request")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"stage\": \"APPLIED\"}"))
+                .andExpect(status().isOk());
+
+        assertThat(auditEventWriter.flush(Duration.ofSeconds(5))).isTrue();
+
+        mockMvc.perform(get("/api/audit-events")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].type", is("application.stage_changed")))
+                .andExpect(jsonPath("$[0].correlationId", is("audit-async-request")));
+    }
+
+    @Test
+    void discardDropsEventsStillQueuedForADeletedAccount() {
+        User deleted = createUser("audit-discard-deleted@example.com");
+        User kept = createUser("audit-discard-kept@example.com");
+
+        assertThat(auditEventWriter.enqueue(buildEvent(deleted.getId(), "deleted", LocalDateTime.now()))).isTrue();
+        assertThat(auditEventWriter.enqueue(buildEvent(kept.getId(), "kept", LocalDateTime.now()))).isTrue();
+        auditEventWriter.discard(deleted.getId());
+        assertThat(auditEventWriter.enqueue(buildEvent(deleted.getId(), "late", LocalDateTime.now()))).isTrue();
+
+        assertThat(auditEventWriter.flush(Duration.ofSeconds(5))).isTrue();
+        assertThat(auditEventRepository.findAll())
+                .filteredOn(event -> event.getUserId().equals(deleted.getId()))
+                .isEmpty();
+        assertThat(auditEventRepository.findAll())
+                .filteredOn(event -> event.getUserId().equals(kept.getId()))
+                .hasSize(1);
+    }
+
+        private AuditEvent buildEvent(java.util.UUID userId, String payload, LocalDateTime createdAt) {
         AuditEvent event = new AuditEvent();
         event.setUserId(userId);
         event.setEventType("test.event");
@@ -2,8 +2,12 @@ package com.dev.backend.controller;
 
 import com.dev.backend.dto.AuthRequest;
 import com.dev.backend.model.User;
+import com.dev.backend.repository.RefreshTokenRepository;
 import com.dev.backend.repository.UserRepository;
+import com.dev.backend.service.RetentionPurgeJob;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -35,6 +39,12 @@ class AuthControllerTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private RetentionPurgeJob retentionPurgeJob;
+
     @Test
     void signupCreatesUserAndReturnsToken() throws Exception {
         AuthRequest request = new AuthRequest();
@@ -130,4 +140,62 @@ class AuthControllerTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    void refreshRotatesTokensAndRevokesTheFamilyOnReuse() throws Exception {
+        String first = loginRefreshToken("rotate@example.com");
+
+        String second = refresh(first, 200);
+        assertThat(second).isNotEqualTo(first);
+        String third = refresh(second, 200);
+
+        // Replaying a rotated token revokes every token issued from that login.
+        refresh(first, 401);
+        refresh(third, 401);
+    }
+
+    @Test
+    void logoutRevokesTheFamilyAndPurgeRemovesRetiredTokens() throws Exception {
+        String first = loginRefreshToken("logout-family@example.com");
+        String second = refresh(first, 200);
+        User user = userRepository.findByEmail("logout-family@example.com").orElseThrow();
+
+        mockMvc.perform(post("/api/auth/logout")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("refreshToken", second))))
+                .andExpect(status().isNoContent());
+        refresh(second, 401);
+
+        // Past the reuse-detection window, revoked tokens are purged even before they expire.
+        assertThat(retentionPurgeJob.purge(LocalDateTime.now().plusDays(8)).get("refresh_tokens"))
+                .isGreaterThanOrEqualTo(2);
+        assertThat(refreshTokenRepository.findAll())
+                .noneMatch(token -> token.getUserId().equals(user.getId()));
+    }
+
+    private String loginRefreshToken(String email) throws Exception {
+        User user = new User();
+        user.setEmail(email);
+        user.setPasswordHash(passwordEncoder.encode("Password123"));
+        userRepository.save(user);
+
+        AuthRequest request = new AuthRequest();
+        request.setEmail(email);
+        request.setPassword("Password123");
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("refreshToken").asText();
+    }
+
+    private String refresh(String refreshToken, int expectedStatus) throws Exception {
+        String body = mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("refreshToken", refreshToken))))
+                .andExpect(status().is(expectedStatus))
+                .andReturn().getResponse().getContentAsString();
+        return expectedStatus == 200 ? objectMapper.readTree(body).get("refreshToken").asText() : null;
+    }
 }
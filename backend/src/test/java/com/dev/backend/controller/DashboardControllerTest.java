@@ -10,21 +10,33 @@ import com.dev.backend.repository.ApplicationRepository;
 import com.dev.backend.repository.StageEventRepository;
 import com.dev.backend.repository.TaskRepository;
 import com.dev.backend.repository.UserRepository;
+import com.dev.backend.service.ActivityRollupBackfillJob;
 import com.dev.backend.service.JwtService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -36,6 +48,9 @@ class DashboardControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Autowired
     private JwtService jwtService;
 
@@ -51,6 +66,12 @@ class DashboardControllerTest {
     @Autowired
     private StageEventRepository stageEventRepository;
 
+    @Autowired
+    private ActivityRollupBackfillJob activityRollupBackfillJob;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     void summaryReturnsStageCountsAndOverdue() throws Exception {
         User owner = createUser("summary-owner@example.com");
@@ -86,6 +107,79 @@ class DashboardControllerTest {
                 .andExpect(jsonPath("$.overdueTasks", is(1)));
     }
 
+    @Test
+    void summaryTracksApplicationWritesThroughCounters() throws Exception {
+        User owner = createUser("summary-counter@example.com");
+        createApplication(owner.getId(), "ExistingCo", "Engineer", Stage.APPLIED);
+
+        String payload = """
+                {
+                  "company": "CounterCo",
+                  "role": "Engineer"
+                }
+                """;
+        String created = mockMvc.perform(post("/api/applications")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        long appId = objectMapper.readTree(created).get("id").asLong();
+        String secondCreated = mockMvc.perform(post("/api/applications")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        long secondAppId = objectMapper.readTree(secondCreated).get("id").asLong();
+
+        mockMvc.perform(patch("/api/applications/{id}/stage", appId)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"stage\": \"APPLIED\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/applications/{id}", secondAppId)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/dashboard/summary")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stageCounts.SAVED", is(0)))
+                .andExpect(jsonPath("$.stageCounts.APPLIED", is(2)));
+    }
+
+    @Test
+    void summaryIsCachedUntilOwnerWrites() throws Exception {
+        User owner = createUser("summary-cache@example.com");
+        createApplication(owner.getId(), "CachedCo", "Engineer", Stage.SAVED);
+
+        mockMvc.perform(get("/api/dashboard/summary")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stageCounts.SAVED", is(1)));
+
+        createApplication(owner.getId(), "BypassCo", "Engineer", Stage.APPLIED);
+        mockMvc.perform(get("/api/dashboard/summary")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stageCounts.APPLIED", is(0)));
+
+        mockMvc.perform(post("/api/applications")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"company\": \"ApiCo\", \"role\": \"Engineer\"}"))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/dashboard/summary")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stageCounts.SAVED", is(2)));
+    }
+
     @Test
     void staleEndpointReturnsOldRows() throws Exception {
         User owner = createUser("stale-owner@example.com");
@@ -132,6 +226,32 @@ class DashboardControllerTest {
                 .andExpect(jsonPath("$.staleApplications[0].company", is("StaleActive")));
     }
 
+    @Test
+    void nextActionsRunConstantStatementsRegardlessOfTaskCount() throws Exception {
+        User owner = createUser("next-statements@example.com");
+        for (int i = 0; i < 4; i++) {
+            Application application = createApplication(owner.getId(), "NextCo" + i, "Engineer", Stage.APPLIED);
+            Task task = createTask(application, "Due soon " + i, TaskStatus.OPEN);
+            task.setDueAt(LocalDateTime.now().plusDays(1));
+            taskRepository.save(task);
+        }
+        String token = bearerToken(owner);
+        // Verifying a new token looks the account up once; do that first so only the endpoint counts.
+        mockMvc.perform(get("/api/me").header(HttpHeaders.AUTHORIZATION, token)).andExpect(status().isOk());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/dashboard/next-actions")
+                        .param("days", "7")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.dueSoonTasks", hasSize(4)));
+
+        // Due-soon tasks and stale applications: one statement each, no per-row fetches.
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+
     @Test
     void activityEndpointReturnsDailyCounts() throws Exception {
         User owner = createUser("activity-owner@example.com");
@@ -154,6 +274,7 @@ class DashboardControllerTest {
         completed.setStatus(TaskStatus.DONE);
         completed.setCompletedAt(yesterday);
         taskRepository.save(completed);
+        activityRollupBackfillJob.run();
 
         int days = 7;
         LocalDate startDate = today.minusDays(days - 1L);
@@ -169,6 +290,69 @@ class DashboardControllerTest {
                 .andExpect(jsonPath(String.format("$.items[%d].taskCompletions", completionIndex), is(1)));
     }
 
+    @Test
+    void activityRollupFollowsTransitionsAndReopenedTasks() throws Exception {
+        User owner = createUser("activity-rollup@example.com");
+        Application application = createApplication(owner.getId(), "RollupCo", "Engineer", Stage.SAVED);
+        Task first = taskRepository.save(createTask(application, "First", TaskStatus.OPEN));
+        Task second = taskRepository.save(createTask(application, "Second", TaskStatus.OPEN));
+
+        mockMvc.perform(patch("/api/applications/{id}/stage", application.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"stage\": \"APPLIED\"}"))
+                .andExpect(status().isOk());
+        for (Task task : new Task[] {first, second}) {
+            mockMvc.perform(patch("/api/tasks/{id}/status", task.getId())
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"status\": \"DONE\"}"))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(patch("/api/tasks/{id}/status", second.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"OPEN\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/dashboard/activity")
+                        .param("days", "1")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].stageTransitions", is(1)))
+                .andExpect(jsonPath("$.items[0].taskCompletions", is(1)));
+    }
+
+    @Test
+    void bootstrapReturnsAllSectionsWithServerTiming() throws Exception {
+        User owner = createUser("bootstrap-owner@example.com");
+        Application stale = createApplication(owner.getId(), "BootCo", "Engineer", Stage.APPLIED);
+        stale.setLastTouchAt(LocalDateTime.now().minusDays(40));
+        applicationRepository.save(stale);
+        Task task = createTask(stale, "Ping recruiter", TaskStatus.OPEN);
+        task.setDueAt(LocalDateTime.now().plusDays(1));
+        taskRepository.save(task);
+
+        mockMvc.perform(get("/api/dashboard/bootstrap")
+                        .param("activityDays", "14")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(DashboardController.SERVER_TIMING_HEADER,
+                        matchesPattern("summary;dur=[0-9.]+, next-actions;dur=[0-9.]+, stale;dur=[0-9.]+, "
+                                + "activity;dur=[0-9.]+, total;dur=[0-9.]+")))
+                .andExpect(jsonPath("$.summary.stageCounts.APPLIED", is(1)))
+                .andExpect(jsonPath("$.nextActions.dueSoonTasks", hasSize(1)))
+                .andExpect(jsonPath("$.staleApplications[0].company", is("BootCo")))
+                .andExpect(jsonPath("$.activity.days", is(14)))
+                .andExpect(jsonPath("$.activity.items", hasSize(14)));
+    }
+
+    @Test
+    void bootstrapRequiresAuth() throws Exception {
+        mockMvc.perform(get("/api/dashboard/bootstrap"))
+                .andExpect(status().isUnauthorized());
+    }
+
     private User createUser(String email) {
         User user = new User();
         String uniqueEmail = email.replace("@", "+" + java.util.UUID.randomUUID() + "@");
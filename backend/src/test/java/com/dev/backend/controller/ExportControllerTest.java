@@ -0,0 +1,190 @@
+package com.dev.backend.controller;
+
+import com.dev.backend.model.Application;
+import com.dev.backend.model.AuditEvent;
+import com.dev.backend.model.Stage;
+import com.dev.backend.model.StageEvent;
+import com.dev.backend.model.Task;
+import com.dev.backend.model.TaskStatus;
+import com.dev.backend.model.User;
+import com.dev.backend.repository.ApplicationRepository;
+import com.dev.backend.repository.AuditEventRepository;
+import com.dev.backend.repository.StageEventRepository;
+import com.dev.backend.repository.TaskRepository;
+import com.dev.backend.repository.UserRepository;
+import com.dev.backend.service.JwtService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "spring.sql.init.mode=never")
+class ExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private StageEventRepository stageEventRepository;
+
+    @Autowired
+    private AuditEventRepository auditEventRepository;
+
+    @Test
+    void ndjsonExportStreamsEveryDatasetForTheCaller() throws Exception {
+        User owner = createUser("export-owner@example.com");
+        User other = createUser("export-other@example.com");
+        Application application = createApplication(owner, "ExportCo");
+        createApplication(other, "HiddenCo");
+        createTask(application, "Follow up");
+        createStageEvent(application);
+        createAuditEvent(owner);
+
+        MvcResult started = mockMvc.perform(get("/api/export")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson"))
+                .andReturn();
+
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n")) {
+            rows.add(objectMapper.readTree(line));
+        }
+        assertThat(rows).extracting(row -> row.get("type").asText())
+                .containsExactly("application", "task", "stage_event", "audit_event");
+        assertThat(rows.get(0).get("company").asText()).isEqualTo("ExportCo");
+        assertThat(rows.get(1).get("application_id").asLong()).isEqualTo(application.getId());
+        assertThat(rows.get(2).get("to_stage").asText()).isEqualTo("APPLIED");
+        assertThat(rows.get(3).get("event_type").asText()).isEqualTo("application.stage_changed");
+    }
+
+    @Test
+    void csvExportIsGzippedWhenAccepted() throws Exception {
+        User owner = createUser("export-csv@example.com");
+        createApplication(owner, "Quote \"Inc\", LLC");
+
+        MvcResult started = mockMvc.perform(get("/api/export")
+                        .param("format", "csv")
+                        .param("dataset", "applications")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+
+        byte[] compressed = result.getResponse().getContentAsByteArray();
+        String csv;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String[] lines = csv.split("\r\n");
+        assertThat(lines[0]).startsWith("id,company,role,");
+        assertThat(lines[1]).contains("\"Quote \"\"Inc\"\", LLC\"");
+        assertThat(lines).hasSize(2);
+    }
+
+    @Test
+    void exportRejectsUnknownDatasets() throws Exception {
+        User owner = createUser("export-bad@example.com");
+
+        mockMvc.perform(get("/api/export")
+                        .param("format", "csv")
+                        .param("dataset", "users")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportRequiresAuth() throws Exception {
+        mockMvc.perform(get("/api/export"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private User createUser(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPasswordHash("hash");
+        return userRepository.save(user);
+    }
+
+    private Application createApplication(User owner, String company) {
+        Application application = new Application();
+        application.setCompany(company);
+        application.setRole("Engineer");
+        application.setStage(Stage.SAVED);
+        application.setUserId(owner.getId());
+        return applicationRepository.save(application);
+    }
+
+    private void createTask(Application application, String title) {
+        Task task = new Task();
+        task.setApplication(application);
+        task.setTitle(title);
+        task.setStatus(TaskStatus.OPEN);
+        taskRepository.save(task);
+    }
+
+    private void createStageEvent(Application application) {
+        StageEvent event = new StageEvent();
+        event.setApplication(application);
+        event.setFromStage(Stage.SAVED);
+        event.setToStage(Stage.APPLIED);
+        event.setActor("user:test");
+        stageEventRepository.save(event);
+    }
+
+    private void createAuditEvent(User owner) {
+        AuditEvent event = new AuditEvent();
+        event.setUserId(owner.getId());
+        event.setEventType("application.stage_changed");
+        event.setEntityType("application");
+        event.setCreatedAt(LocalDateTime.now());
+        auditEventRepository.save(event);
+    }
+
+    private String bearerToken(User user) {
+        return "Bearer " + jwtService.generateToken(user);
+    }
+}
@@ -2,7 +2,10 @@ package com.dev.backend.controller;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import com.dev.backend.repository.UserRepository;
+import com.dev.backend.security.VerifiedTokenCache;
 import com.dev.backend.service.JwtService;
+import com.dev.backend.web.RateLimitStore;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -22,6 +25,15 @@ class HealthControllerTest {
     @MockBean
     private JwtService jwtService;
 
+    @MockBean
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @MockBean
+    private RateLimitStore rateLimitStore;
+
     @MockBean
     private JdbcTemplate jdbcTemplate;
 
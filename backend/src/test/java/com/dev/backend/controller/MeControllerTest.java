@@ -0,0 +1,153 @@
+package com.dev.backend.controller;
+
+import com.dev.backend.model.Application;
+import com.dev.backend.model.Stage;
+import com.dev.backend.model.StageEvent;
+import com.dev.backend.model.Task;
+import com.dev.backend.model.TaskStatus;
+import com.dev.backend.model.User;
+import com.dev.backend.repository.ApplicationRepository;
+import com.dev.backend.repository.StageEventRepository;
+import com.dev.backend.repository.TaskRepository;
+import com.dev.backend.repository.UserRepository;
+import com.dev.backend.service.JwtService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "spring.sql.init.mode=never",
+        "app.account-deletion.sync-max-applications=1",
+        "app.account-deletion.batch-size=3"
+})
+class MeControllerTest {
+
+    private static final String DELETE_PAYLOAD = """
+            {"password": "Password123"}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private StageEventRepository stageEventRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void deleteAccountRemovesSmallAccountsWithBulkStatements() throws Exception {
+        User user = createUser("delete-small@example.com");
+        Application application = createApplicationWithHistory(user.getId(), 10);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(delete("/api/me")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(DELETE_PAYLOAD))
+                .andExpect(status().isNoContent());
+
+        // Only the user row is loaded and removed through the entity manager; children go in bulk.
+        assertThat(statistics.getEntityDeleteCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+        assertThat(userRepository.findById(user.getId())).isEmpty();
+        assertThat(applicationRepository.findById(application.getId())).isEmpty();
+        assertThat(taskRepository.findResponsesByApplicationId(application.getId())).isEmpty();
+        assertThat(stageEventRepository.findAllByApplicationUserId(user.getId())).isEmpty();
+    }
+
+    @Test
+    void deleteAccountTombstonesLargeAccountsAndPurgesThemInTheBackground() throws Exception {
+        User user = createUser("delete-large@example.com");
+        Application first = createApplicationWithHistory(user.getId(), 5);
+        Application second = createApplicationWithHistory(user.getId(), 5);
+
+        mockMvc.perform(delete("/api/me")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(DELETE_PAYLOAD))
+                .andExpect(status().isAccepted());
+
+        // The email is released as soon as the request returns, and the token stops working.
+        assertThat(userRepository.findByEmail("delete-large@example.com")).isEmpty();
+        mockMvc.perform(get("/api/me")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(user)))
+                .andExpect(status().isUnauthorized());
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (userRepository.existsById(user.getId()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(userRepository.existsById(user.getId())).isFalse();
+        assertThat(applicationRepository.findById(first.getId())).isEmpty();
+        assertThat(applicationRepository.findById(second.getId())).isEmpty();
+        assertThat(taskRepository.findResponsesByApplicationId(first.getId())).isEmpty();
+        assertThat(taskRepository.findResponsesByApplicationId(second.getId())).isEmpty();
+    }
+
+    private User createUser(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPasswordHash(passwordEncoder.encode("Password123"));
+        return userRepository.save(user);
+    }
+
+    private Application createApplicationWithHistory(UUID userId, int children) {
+        Application application = new Application();
+        application.setCompany("DeleteCo");
+        application.setRole("Engineer");
+        application.setUserId(userId);
+        applicationRepository.save(application);
+        for (int i = 0; i < children; i++) {
+            Task task = new Task();
+            task.setApplication(application);
+            task.setTitle("Task " + i);
+            task.setStatus(TaskStatus.OPEN);
+            taskRepository.save(task);
+
+            StageEvent event = new StageEvent();
+            event.setApplication(application);
+            event.setFromStage(Stage.SAVED);
+            event.setToStage(Stage.APPLIED);
+            stageEventRepository.save(event);
+        }
+        return application;
+    }
+
+    private String bearerToken(User user) {
+        return "Bearer " + jwtService.generateToken(user);
+    }
+}
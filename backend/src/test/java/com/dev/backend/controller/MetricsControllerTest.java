@@ -0,0 +1,156 @@
+package com.dev.backend.controller;
+
+import com.dev.backend.metrics.TableRowEstimates;
+import com.dev.backend.model.Application;
+import com.dev.backend.model.Task;
+import com.dev.backend.model.TaskStatus;
+import com.dev.backend.model.User;
+import com.dev.backend.repository.ApplicationRepository;
+import com.dev.backend.repository.TaskRepository;
+import com.dev.backend.repository.UserRepository;
+import com.dev.backend.service.JwtService;
+import com.dev.backend.web.QueryMetricsFilter;
+import com.dev.backend.web.RequestLatencyFilter;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "spring.sql.init.mode=never")
+class MetricsControllerTest {
+
+    private static final String HEALTH = "$.routes[?(@.route == 'GET /api/health')]";
+    private static final String OVERDUE = "$[?(@.endpoint == 'GET /api/tasks/overdue')]";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TableRowEstimates tableRowEstimates;
+
+    @Autowired
+    private RequestLatencyFilter requestLatencyFilter;
+
+    @Autowired
+    private QueryMetricsFilter queryMetricsFilter;
+
+    @Test
+    void queryMetricsAggregateStatementsPerTemplatedEndpoint() throws Exception {
+        User owner = new User();
+        owner.setEmail("query-metrics@example.com");
+        owner.setPasswordHash("hash");
+        owner = userRepository.save(owner);
+        Application application = new Application();
+        application.setCompany("MetricsCo");
+        application.setRole("Engineer");
+        application.setUserId(owner.getId());
+        application = applicationRepository.save(application);
+        Task task = new Task();
+        task.setApplication(application);
+        task.setTitle("Overdue");
+        task.setStatus(TaskStatus.OPEN);
+        task.setDueAt(LocalDateTime.now().minusDays(2));
+        taskRepository.save(task);
+
+        String bearerToken = "Bearer " + jwtService.generateToken(owner);
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/tasks/overdue")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/api/metrics/queries")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(OVERDUE + ".requests", hasItem(greaterThanOrEqualTo(2))))
+                .andExpect(jsonPath(OVERDUE + ".statements.sum", hasItem(greaterThanOrEqualTo(2))))
+                .andExpect(jsonPath(OVERDUE + ".statements.buckets.1", hasItem(greaterThanOrEqualTo(2))))
+                .andExpect(jsonPath(OVERDUE + ".entityLoads.max", hasItem(0)));
+    }
+
+    @Test
+    void metricsEndpointServesPrometheusTextWithoutTouchingTheDatabase() throws Exception {
+        tableRowEstimates.refresh();
+        mockMvc.perform(get("/api/health")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/metrics"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/plain;version=0.0.4;charset=utf-8"))
+                .andExpect(content().string(containsString("# TYPE http_server_request_duration_seconds histogram")))
+                .andExpect(content().string(containsString(
+                        "http_server_request_duration_seconds_bucket{method=\"GET\",route=\"/api/health\",le=\"+Inf\"}")))
+                .andExpect(content().string(containsString("db_table_rows_estimate{table=\"users\"}")))
+                .andExpect(content().string(containsString("hikaricp_connections_max 10")))
+                .andExpect(content().string(containsString("rate_limit_rejections_total ")))
+                .andExpect(content().string(containsString("audit_queue_depth ")));
+
+        // The first scrape is recorded once it completes, so a second one can see it.
+        mockMvc.perform(get("/api/metrics"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "http_server_request_db_statements_sum{method=\"GET\",route=\"/api/metrics\"} 0\n")));
+    }
+
+    @Test
+    void latencyReportsPercentilesForTheLastInterval() throws Exception {
+        mockMvc.perform(get("/api/health")).andExpect(status().isOk());
+        requestLatencyFilter.rollInterval();
+
+        User viewer = new User();
+        viewer.setEmail("latency-metrics@example.com");
+        viewer.setPasswordHash("hash");
+        viewer = userRepository.save(viewer);
+
+        mockMvc.perform(get("/api/metrics/latency")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateToken(viewer)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.intervalEnd", notNullValue()))
+                .andExpect(jsonPath(HEALTH + ".count", hasItem(greaterThanOrEqualTo(1))))
+                .andExpect(jsonPath(HEALTH + ".p99Millis", hasItem(greaterThan(0.0))));
+    }
+
+    @Test
+    void routeMetricsDoNotGrowWithArbitraryMethods() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(request(HttpMethod.valueOf("PROBE" + i), "/api/no-such-route-" + i));
+        }
+
+        assertThat(requestLatencyFilter.snapshot().keySet())
+                .noneMatch(route -> route.startsWith("PROBE"))
+                .noneMatch(route -> route.contains("no-such-route"));
+        assertThat(queryMetricsFilter.snapshot().keySet())
+                .noneMatch(endpoint -> endpoint.startsWith("PROBE"))
+                .noneMatch(endpoint -> endpoint.contains("no-such-route"));
+    }
+}
@@ -8,9 +8,12 @@ import com.dev.backend.repository.ApplicationRepository;
 import com.dev.backend.repository.TaskRepository;
 import com.dev.backend.repository.UserRepository;
 import com.dev.backend.service.JwtService;
+import jakarta.persistence.EntityManagerFactory;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.WeekFields;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -27,6 +30,8 @@ import static org.hamcrest.Matchers.notNullValue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -50,6 +55,9 @@ class TaskControllerTest {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     void createTaskRequiresAuth() throws Exception {
         User owner = createUser("task-auth@example.com");
@@ -164,6 +172,51 @@ class TaskControllerTest {
         assertThat(reopened.getCompletedAt()).isNull();
     }
 
+    @Test
+    void taskWritesHonorIfMatch() throws Exception {
+        User owner = createUser("task-if-match@example.com");
+        Application application = createApplication(owner.getId(), "TaskTagCo", "Engineer");
+        Task task = new Task();
+        task.setApplication(application);
+        task.setTitle("Original");
+        task.setStatus(TaskStatus.OPEN);
+        task = taskRepository.save(task);
+
+        mockMvc.perform(put("/api/tasks/{id}", task.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Renamed\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.applicationId", is(application.getId().intValue())))
+                .andExpect(jsonPath("$.status", is("OPEN")));
+
+        mockMvc.perform(put("/api/tasks/{id}", task.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Stale\"}"))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(patch("/api/tasks/{id}/status", task.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"DONE\"}"))
+                .andExpect(status().isPreconditionFailed());
+        assertThat(taskRepository.findById(task.getId()).orElseThrow())
+                .extracting(Task::getTitle, Task::getStatus)
+                .containsExactly("Renamed", TaskStatus.OPEN);
+
+        mockMvc.perform(patch("/api/tasks/{id}/status", task.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(owner))
+                        .header(HttpHeaders.IF_MATCH, "\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"DONE\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""));
+    }
+
     @Test
     void dueTodayReturnsOnlyOpenUnsnoozedTasks() throws Exception {
         User owner = createUser("task-due-today@example.com");
@@ -261,6 +314,52 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$[0].title", is("Overdue")));
     }
 
+    @Test
+    void taskListingsRunConstantStatementsRegardlessOfResultSize() throws Exception {
+        User owner = createUser("task-statements@example.com");
+        Application application = createApplication(owner.getId(), "StatementCo", "Engineer");
+        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
+        for (int i = 0; i < 5; i++) {
+            Task dueToday = new Task();
+            dueToday.setApplication(application);
+            dueToday.setTitle("Due today " + i);
+            dueToday.setStatus(TaskStatus.OPEN);
+            dueToday.setDueAt(startOfDay.plusMinutes(i));
+            taskRepository.save(dueToday);
+
+            Task overdue = new Task();
+            overdue.setApplication(application);
+            overdue.setTitle("Overdue " + i);
+            overdue.setStatus(TaskStatus.OPEN);
+            overdue.setDueAt(startOfDay.minusDays(i + 1));
+            taskRepository.save(overdue);
+        }
+        String token = bearerToken(owner);
+        // Verifying a new token looks the account up once; do that first so only the endpoint counts.
+        mockMvc.perform(get("/api/me").header(HttpHeaders.AUTHORIZATION, token)).andExpect(status().isOk());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        String[] listings = {"/api/tasks/due/today", "/api/tasks/due/week", "/api/tasks/overdue"};
+        for (String listing : listings) {
+            statistics.clear();
+            mockMvc.perform(get(listing)
+                            .header(HttpHeaders.AUTHORIZATION, token))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].applicationId", is(application.getId().intValue())));
+            assertThat(statistics.getPrepareStatementCount()).as(listing).isEqualTo(1);
+            assertThat(statistics.getEntityLoadCount()).as(listing).isZero();
+        }
+
+        statistics.clear();
+        mockMvc.perform(get("/api/applications/{id}/tasks", application.getId())
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(10)));
+        // Ownership check plus the listing itself.
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
     private User createUser(String email) {
         User user = new User();
         user.setEmail(email);
@@ -0,0 +1,92 @@
+package com.dev.backend.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyRecorderTest {
+
+    @Test
+    void percentilesStayWithinBucketResolution() {
+        LatencyRecorder recorder = new LatencyRecorder(4);
+        for (long micros = 1; micros <= 100_000; micros++) {
+            recorder.record(micros);
+        }
+
+        LatencyRecorder.Counts counts = recorder.counts();
+        assertThat(counts.count()).isEqualTo(100_000);
+        assertThat(counts.max()).isEqualTo(100_000);
+        assertThat(counts.percentile(50)).isCloseTo(50_000L, within(50_000L / 64));
+        assertThat(counts.percentile(99)).isCloseTo(99_000L, within(99_000L / 64));
+        assertThat(counts.percentile(50)).isGreaterThanOrEqualTo(50_000L);
+    }
+
+    @Test
+    void bucketsCoverTheRangeWithoutGaps() {
+        for (long value = 0; value < 1 << 20; value++) {
+            int index = LatencyRecorder.bucketIndex(value);
+            assertThat(LatencyRecorder.highestValue(index)).isGreaterThanOrEqualTo(value);
+            if (index > 0) {
+                assertThat(LatencyRecorder.highestValue(index - 1)).isLessThan(value);
+            }
+        }
+    }
+
+    @Test
+    void intervalsOnlyReportTrafficSinceTheLastSnapshot() {
+        LatencyRecorder recorder = new LatencyRecorder(2);
+        for (int i = 0; i < 100; i++) {
+            recorder.record(80_000);
+        }
+        LatencyRecorder.Counts first = recorder.counts();
+        for (int i = 0; i < 10; i++) {
+            recorder.record(1_000);
+        }
+
+        LatencyRecorder.Counts interval = recorder.counts().since(first);
+        assertThat(interval.count()).isEqualTo(10);
+        assertThat(interval.percentile(99)).isCloseTo(1_000L, within(1_000L / 64));
+        assertThat(interval.max()).isLessThan(1_100L);
+    }
+
+    @Test
+    void concurrentRecordingLosesNoCounts() throws Exception {
+        LatencyRecorder recorder = new LatencyRecorder(8);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 50_000; i++) {
+                        recorder.record(i % 5_000);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(recorder.counts().count()).isEqualTo(400_000);
+    }
+
+    @Test
+    void foldsIntoPrometheusBuckets() {
+        LatencyRecorder recorder = new LatencyRecorder(1);
+        recorder.record(500);
+        recorder.record(4_000);
+        recorder.record(20_000);
+
+        Histogram.Snapshot snapshot = recorder.counts().toSnapshot(new long[] {1_000, 5_000, 10_000});
+        assertThat(snapshot.cumulativeCounts()).containsExactly(1, 2, 2, 3);
+        assertThat(snapshot.sum()).isEqualTo(24_500);
+    }
+}
@@ -121,4 +121,32 @@ class ApplicationRepositoryTest {
         assertThat(results).hasSize(1);
         assertThat(results.get(0).getId()).isEqualTo(stale.getId());
     }
+
+    @Test
+    void transitionOnlySucceedsFromTheExpectedStage() {
+        UUID userId = UUID.randomUUID();
+        Application application = new Application();
+        application.setCompany("Race");
+        application.setRole("Dev");
+        application.setUserId(userId);
+        entityManager.persistAndFlush(application);
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(applicationRepository.transition(application.getId(), UUID.randomUUID(), Stage.SAVED, 0L, Stage.APPLIED, now))
+                .isZero();
+        assertThat(applicationRepository.transition(application.getId(), userId, Stage.SAVED, 0L, Stage.APPLIED, now))
+                .isEqualTo(1);
+        // A second writer that also read SAVED loses.
+        assertThat(applicationRepository.transition(application.getId(), userId, Stage.SAVED, 0L, Stage.WITHDRAWN, now))
+                .isZero();
+        // So does one that read the right stage but sent an older version.
+        assertThat(applicationRepository.transition(application.getId(), userId, Stage.APPLIED, 0L, Stage.INTERVIEW, now))
+                .isZero();
+        // Without a version only the stage has to match.
+        assertThat(applicationRepository.transition(application.getId(), userId, Stage.APPLIED, null, Stage.INTERVIEW, now))
+                .isEqualTo(1);
+        Application stored = applicationRepository.findById(application.getId()).orElseThrow();
+        assertThat(stored.getStage()).isEqualTo(Stage.INTERVIEW);
+        assertThat(stored.getVersion()).isEqualTo(2L);
+    }
 }
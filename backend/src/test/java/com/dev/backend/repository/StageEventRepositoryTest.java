@@ -3,12 +3,18 @@ package com.dev.backend.repository;
 import com.dev.backend.model.Application;
 import com.dev.backend.model.Stage;
 import com.dev.backend.model.StageEvent;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 @DataJpaTest
 class StageEventRepositoryTest {
@@ -16,6 +22,9 @@ class StageEventRepositoryTest {
     @Autowired
     private TestEntityManager entityManager;
 
+    @Autowired
+    private StageEventRepository stageEventRepository;
+
     @Test
     void persistSetsCreatedAtAndLinksApplication() {
         Application application = new Application();
@@ -38,4 +47,38 @@ class StageEventRepositoryTest {
         assertThat(saved.getFromStage()).isEqualTo(Stage.SAVED);
         assertThat(saved.getToStage()).isEqualTo(Stage.APPLIED);
     }
+
+    @Test
+    void countPerDayGroupsEventsByCalendarDayWithinWindow() {
+        UUID userId = UUID.randomUUID();
+        Application application = new Application();
+        application.setCompany("Acme");
+        application.setRole("Engineer");
+        application.setUserId(userId);
+        application = entityManager.persist(application);
+
+        LocalDate day = LocalDate.of(2024, 3, 10);
+        persistEvent(application, day.atTime(0, 5));
+        persistEvent(application, day.atTime(23, 55));
+        persistEvent(application, day.plusDays(1).atTime(12, 0));
+        persistEvent(application, day.plusDays(2).atTime(0, 0));
+        entityManager.flush();
+
+        Map<LocalDate, Long> counts = stageEventRepository
+                .countPerDay(userId, day.atStartOfDay(), day.plusDays(2).atStartOfDay()).stream()
+                .collect(Collectors.toMap(DailyCount::getDay, DailyCount::getTotal));
+
+        assertThat(counts).containsOnly(entry(day, 2L), entry(day.plusDays(1), 1L));
+        assertThat(stageEventRepository.countPerDay(UUID.randomUUID(), day.atStartOfDay(), day.plusDays(3).atStartOfDay()))
+                .isEmpty();
+    }
+
+    private void persistEvent(Application application, LocalDateTime createdAt) {
+        StageEvent event = new StageEvent();
+        event.setApplication(application);
+        event.setFromStage(Stage.SAVED);
+        event.setToStage(Stage.APPLIED);
+        event.setCreatedAt(createdAt);
+        entityManager.persist(event);
+    }
 }
@@ -1,7 +1,9 @@
 package com.dev.backend.security;
 
 import com.dev.backend.model.User;
+import com.dev.backend.repository.UserRepository;
 import com.dev.backend.service.JwtService;
+import java.time.LocalDateTime;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -10,6 +12,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -25,6 +28,12 @@ class JwtAuthFilterTest {
     @Autowired
     private JwtService jwtService;
 
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
     @Test
     void missingTokenReturnsUnauthorized() throws Exception {
         mockMvc.perform(get("/api/me"))
@@ -40,10 +49,8 @@ class JwtAuthFilterTest {
 
     @Test
     void validTokenReturnsUserPayload() throws Exception {
-        User user = new User();
-        java.util.UUID userId = java.util.UUID.randomUUID();
-        user.setId(userId);
-        user.setEmail("me@example.com");
+        User user = createUser("me@example.com");
+        java.util.UUID userId = user.getId();
         String token = jwtService.generateToken(user);
 
         mockMvc.perform(get("/api/me")
@@ -53,4 +60,62 @@ class JwtAuthFilterTest {
                 .andExpect(jsonPath("$.userId").value(userId.toString()))
                 .andExpect(jsonPath("$.email").value("me@example.com"));
     }
+
+    @Test
+    void repeatedTokenIsServedFromVerificationCache() throws Exception {
+        User user = createUser("cached@example.com");
+        String token = jwtService.generateToken(user);
+
+        mockMvc.perform(get("/api/me")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        long hitsBefore = verifiedTokenCache.stats().hitCount();
+
+        mockMvc.perform(get("/api/me")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("cached@example.com"));
+
+        assertThat(verifiedTokenCache.stats().hitCount()).isGreaterThan(hitsBefore);
+    }
+
+    @Test
+    void expiredTokenReturnsUnauthorized() throws Exception {
+        JwtService expiringJwtService = new JwtService("dev-secret-change-me-please-change-32chars", -60, true);
+        User user = new User();
+        user.setId(java.util.UUID.randomUUID());
+        user.setEmail("expired@example.com");
+        String token = expiringJwtService.generateToken(user);
+
+        mockMvc.perform(get("/api/me")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/me")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void deletedAccountIsRejectedEvenWithACachedToken() throws Exception {
+        User user = createUser("tombstoned@example.com");
+        String token = jwtService.generateToken(user);
+        mockMvc.perform(get("/api/me")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        user.setDeletedAt(LocalDateTime.now());
+        userRepository.save(user);
+        verifiedTokenCache.invalidateUser(user.getId());
+
+        mockMvc.perform(get("/api/me")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private User createUser(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPasswordHash("hash");
+        return userRepository.save(user);
+    }
 }
@@ -0,0 +1,75 @@
+package com.dev.backend.service;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DashboardCacheTest {
+
+    @Test
+    void invalidationDuringALoadDiscardsTheLoadedValue() throws Exception {
+        DashboardCache cache = new DashboardCache(true, 100, 60);
+        UUID userId = UUID.randomUUID();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        CompletableFuture<String> staleLoad = CompletableFuture.supplyAsync(() -> cache.get(userId, "summary", () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "before-write";
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // A write commits while the load above is still reading the old data.
+        CompletableFuture<Void> invalidation = CompletableFuture.runAsync(() -> cache.invalidate(userId));
+        Thread.sleep(200);
+        release.countDown();
+        assertThat(staleLoad.get(5, TimeUnit.SECONDS)).isEqualTo("before-write");
+        invalidation.get(5, TimeUnit.SECONDS);
+
+        assertThat(cache.get(userId, "summary", () -> {
+            loads.incrementAndGet();
+            return "after-write";
+        })).isEqualTo("after-write");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void loadBetweenAWriteAndItsCommitIsDroppedAfterCompletion() {
+        DashboardCache cache = new DashboardCache(true, 100, 60);
+        UUID userId = UUID.randomUUID();
+        cache.get(userId, "summary", () -> "before-write");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidate(userId);
+            // Another request reads the committed (old) rows before this transaction commits.
+            assertThat(cache.get(userId, "summary", () -> "uncommitted-write-not-visible"))
+                    .isEqualTo("uncommitted-write-not-visible");
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.get(userId, "summary", () -> "after-write")).isEqualTo("after-write");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.dev.backend.service;
+
+import com.dev.backend.config.DatabaseDialect;
+import com.dev.backend.model.AuditEvent;
+import com.dev.backend.model.PasswordResetToken;
+import com.dev.backend.model.RefreshToken;
+import com.dev.backend.repository.AuditEventRepository;
+import com.dev.backend.repository.PasswordResetTokenRepository;
+import com.dev.backend.repository.RefreshTokenRepository;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@TestPropertySource(properties = "spring.sql.init.mode=never")
+class RetentionPurgeJobTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PasswordResetTokenRepository passwordResetTokenRepository;
+
+    @Autowired
+    private AuditEventRepository auditEventRepository;
+
+    @Test
+    void purgeDeletesRetiredTokensInBatches() {
+        LocalDateTime now = LocalDateTime.now();
+        UUID userId = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            refreshTokenRepository.save(refreshToken(userId, now.minusMinutes(1), null));
+        }
+        refreshTokenRepository.save(refreshToken(userId, now.plusDays(1), now.minusDays(8)));
+        RefreshToken live = refreshTokenRepository.save(refreshToken(userId, now.plusDays(1), null));
+        RefreshToken recentlyRevoked = refreshTokenRepository.save(refreshToken(userId, now.plusDays(1), now.minusHours(1)));
+        passwordResetTokenRepository.save(passwordResetToken(userId, now.minusDays(2), null));
+        passwordResetTokenRepository.save(passwordResetToken(userId, now.plusMinutes(30), now.minusDays(2)));
+        PasswordResetToken pending = passwordResetTokenRepository.save(passwordResetToken(userId, now.plusMinutes(30), null));
+        refreshTokenRepository.flush();
+        passwordResetTokenRepository.flush();
+
+        RetentionPurgeJob job = job(2, 365);
+        Map<String, Integer> deleted = job.purge(now);
+
+        assertThat(deleted).containsEntry("refresh_tokens", 6).containsEntry("password_reset_tokens", 2);
+        assertThat(refreshTokenRepository.findAll()).extracting(RefreshToken::getId)
+                .containsExactlyInAnyOrder(live.getId(), recentlyRevoked.getId());
+        assertThat(passwordResetTokenRepository.findAll()).extracting(PasswordResetToken::getId)
+                .containsExactly(pending.getId());
+        // Six rows at two per batch, plus the empty batch that ends the loop.
+        assertThat(job.tableStats().get("refresh_tokens").batchCount()).isEqualTo(4);
+        assertThat(job.tableStats().get("refresh_tokens").deletedCount()).isEqualTo(6);
+        assertThat(job.tableStats().get("refresh_tokens").lastSuccessEpochMillis()).isPositive();
+        assertThat(job.runCount()).isEqualTo(1);
+    }
+
+    @Test
+    void auditEventsAreKeptForTheirRetention() {
+        LocalDateTime now = LocalDateTime.now();
+        UUID userId = UUID.randomUUID();
+        auditEventRepository.save(auditEvent(userId, now.minusDays(400)));
+        AuditEvent recent = auditEventRepository.saveAndFlush(auditEvent(userId, now.minusDays(10)));
+
+        assertThat(job(100, 0).purge(now)).doesNotContainKey("audit_events");
+        assertThat(auditEventRepository.count()).isEqualTo(2);
+
+        assertThat(job(100, 365).purge(now)).containsEntry("audit_events", 1);
+        assertThat(auditEventRepository.findAll()).extracting(AuditEvent::getId).containsExactly(recent.getId());
+    }
+
+    @Test
+    void interruptedPurgeStopsWithoutClaimingSuccess() {
+        LocalDateTime now = LocalDateTime.now();
+        UUID userId = UUID.randomUUID();
+        for (int i = 0; i < 3; i++) {
+            refreshTokenRepository.save(refreshToken(userId, now.minusMinutes(1), null));
+        }
+        passwordResetTokenRepository.saveAndFlush(passwordResetToken(userId, now.minusDays(2), null));
+        refreshTokenRepository.flush();
+
+        RetentionPurgeJob job = job(2, 365);
+        Map<String, Integer> deleted;
+        Thread.currentThread().interrupt();
+        try {
+            deleted = job.purge(now);
+        } finally {
+            Thread.interrupted();
+        }
+
+        assertThat(deleted).containsOnlyKeys("refresh_tokens").containsEntry("refresh_tokens", 2);
+        assertThat(job.tableStats().get("refresh_tokens").lastSuccessEpochMillis()).isZero();
+        assertThat(job.tableStats().get("password_reset_tokens").batchCount()).isZero();
+        assertThat(refreshTokenRepository.count()).isEqualTo(1);
+        assertThat(passwordResetTokenRepository.count()).isEqualTo(1);
+    }
+
+    private RetentionPurgeJob job(int batchSize, long auditRetentionDays) {
+        RetentionPurgeJob job = new RetentionPurgeJob(
+                jdbcTemplate, new DatabaseDialect(jdbcTemplate), false, 3_600_000, 0, batchSize, 0, 168, 24, 24, auditRetentionDays);
+        job.start();
+        return job;
+    }
+
+    private static RefreshToken refreshToken(UUID userId, LocalDateTime expiresAt, LocalDateTime revokedAt) {
+        RefreshToken token = new RefreshToken();
+        token.setUserId(userId);
+        token.setFamilyId(UUID.randomUUID());
+        token.setTokenHash(UUID.randomUUID().toString());
+        token.setExpiresAt(expiresAt);
+        token.setRevokedAt(revokedAt);
+        return token;
+    }
+
+    private static PasswordResetToken passwordResetToken(UUID userId, LocalDateTime expiresAt, LocalDateTime usedAt) {
+        PasswordResetToken token = new PasswordResetToken();
+        token.setUserId(userId);
+        token.setTokenHash(UUID.randomUUID().toString());
+        token.setExpiresAt(expiresAt);
+        token.setUsedAt(usedAt);
+        return token;
+    }
+
+    private static AuditEvent auditEvent(UUID userId, LocalDateTime createdAt) {
+        AuditEvent event = new AuditEvent();
+        event.setUserId(userId);
+        event.setEventType("TEST");
+        event.setEntityType("TEST");
+        event.setCreatedAt(createdAt);
+        return event;
+    }
+}
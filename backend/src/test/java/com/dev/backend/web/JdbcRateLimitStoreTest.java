@@ -0,0 +1,66 @@
+package com.dev.backend.web;
+
+import com.dev.backend.config.DatabaseDialect;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+class JdbcRateLimitStoreTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcRateLimitStore nodeA;
+    private JdbcRateLimitStore nodeB;
+
+    @BeforeEach
+    void setUp() {
+        DatabaseDialect dialect = new DatabaseDialect(jdbcTemplate);
+        nodeA = new JdbcRateLimitStore(jdbcTemplate, dialect, 1000);
+        nodeB = new JdbcRateLimitStore(jdbcTemplate, dialect, 1000);
+        nodeA.createTable();
+        nodeB.createTable();
+    }
+
+    @Test
+    void flushPublishesHitsToOtherNodes() {
+        String key = UUID.randomUUID() + ":auth";
+
+        assertThat(nodeA.tryAcquire(key, 3, 3600).allowed()).isTrue();
+        assertThat(nodeA.tryAcquire(key, 3, 3600).allowed()).isTrue();
+        nodeA.flush();
+
+        Long stored = jdbcTemplate.queryForObject(
+                "select sum(hits) from rate_limit_counters where bucket_key = ?", Long.class, key);
+        assertThat(stored).isEqualTo(2);
+
+        RateLimitDecision third = nodeB.tryAcquire(key, 3, 3600);
+        assertThat(third.allowed()).isTrue();
+        nodeB.flush();
+
+        RateLimitDecision fourth = nodeB.tryAcquire(key, 3, 3600);
+        assertThat(fourth.allowed()).isFalse();
+        assertThat(fourth.remaining()).isZero();
+        assertThat(fourth.retryAfterNanos()).isPositive();
+    }
+
+    @Test
+    void rejectedRequestsAreNotCounted() {
+        String key = UUID.randomUUID() + ":sensitive";
+
+        assertThat(nodeA.tryAcquire(key, 1, 3600).allowed()).isTrue();
+        assertThat(nodeA.tryAcquire(key, 1, 3600).allowed()).isFalse();
+        assertThat(nodeA.tryAcquire(key, 1, 3600).allowed()).isFalse();
+        nodeA.flush();
+
+        Long stored = jdbcTemplate.queryForObject(
+                "select sum(hits) from rate_limit_counters where bucket_key = ?", Long.class, key);
+        assertThat(stored).isEqualTo(1);
+    }
+}
@@ -0,0 +1,135 @@
+package com.dev.backend.web;
+
+import com.dev.backend.model.User;
+import com.dev.backend.repository.UserRepository;
+import com.dev.backend.service.JwtService;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "spring.sql.init.mode=never",
+        "app.rate-limit.auth.requests=2",
+        "app.rate-limit.auth.window-seconds=60",
+        "app.rate-limit.sensitive.requests=3"
+})
+class RateLimitFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
+    @Autowired
+    private LocalRateLimitStore localRateLimitStore;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Test
+    void authRequestsBeyondLimitAreRejectedWithRetryAfter() throws Exception {
+        String client = "203.0.113.5-" + UUID.randomUUID();
+
+        mockMvc.perform(login(client))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string(RateLimitFilter.LIMIT_HEADER, "2"))
+                .andExpect(header().string(RateLimitFilter.REMAINING_HEADER, "1"));
+        mockMvc.perform(login(client))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string(RateLimitFilter.REMAINING_HEADER, "0"));
+        mockMvc.perform(login(client))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(header().string(RateLimitFilter.REMAINING_HEADER, "0"))
+                .andExpect(jsonPath("$.error").value("rate_limited"));
+
+        mockMvc.perform(login("198.51.100.7-" + UUID.randomUUID()))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void evictionKeepsBucketsThatAreStillDraining() throws Exception {
+        String client = "192.0.2.10-" + UUID.randomUUID();
+        mockMvc.perform(login(client)).andExpect(status().isUnauthorized());
+        int before = rateLimitFilter.bucketCount();
+
+        localRateLimitStore.evictIdleBuckets();
+
+        assertThat(rateLimitFilter.bucketCount()).isGreaterThanOrEqualTo(1);
+        assertThat(rateLimitFilter.bucketCount()).isLessThanOrEqualTo(before);
+        mockMvc.perform(login(client))
+                .andExpect(header().string(RateLimitFilter.REMAINING_HEADER, "0"));
+    }
+
+    @Test
+    void fullStoreDoesNotLockNewClientsOutTogether() {
+        LocalRateLimitStore store = new LocalRateLimitStore(1);
+        assertThat(store.tryAcquire("192.0.2.20:auth", 1, 60).allowed()).isTrue();
+        assertThat(store.tryAcquire("192.0.2.20:auth", 1, 60).allowed()).isFalse();
+
+        // Spoofed addresses beyond the cap must not use up a limit that real newcomers share.
+        for (int i = 0; i < 5; i++) {
+            assertThat(store.tryAcquire("198.51.100." + i + ":auth", 1, 60).allowed()).isTrue();
+        }
+        assertThat(store.tryAcquire("203.0.113.20:auth", 1, 60).allowed()).isTrue();
+        assertThat(store.tryAcquire("192.0.2.20:auth", 1, 60).allowed()).isFalse();
+        assertThat(store.trackedKeys()).isEqualTo(1);
+        assertThat(store.overflowCount()).isEqualTo(6);
+    }
+
+    @Test
+    void batchStageUpdatesShareTheSensitiveLimit() throws Exception {
+        String client = "203.0.113.20-" + UUID.randomUUID();
+        User user = new User();
+        user.setEmail("rate-limit-stage@example.com");
+        user.setPasswordHash("hash");
+        String bearerToken = "Bearer " + jwtService.generateToken(userRepository.save(user));
+        RequestBuilder batch = patch("/api/applications/stage")
+                .header("X-Forwarded-For", client)
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": [1], \"stage\": \"APPLIED\"}");
+        RequestBuilder single = patch("/api/applications/1/stage")
+                .header("X-Forwarded-For", client)
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"stage\": \"APPLIED\"}");
+
+        mockMvc.perform(batch)
+                .andExpect(header().string(RateLimitFilter.LIMIT_HEADER, "3"))
+                .andExpect(header().string(RateLimitFilter.REMAINING_HEADER, "2"));
+        mockMvc.perform(single)
+                .andExpect(header().string(RateLimitFilter.REMAINING_HEADER, "1"));
+        mockMvc.perform(batch)
+                .andExpect(header().string(RateLimitFilter.REMAINING_HEADER, "0"));
+        mockMvc.perform(batch)
+                .andExpect(status().isTooManyRequests());
+    }
+
+    private RequestBuilder login(String client) {
+        return post("/api/auth/login")
+                .header("X-Forwarded-For", client)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\": \"nobody@example.com\", \"password\": \"password-123\"}");
+    }
+}
@@ -88,7 +88,7 @@ async function request<T>(
     throw new Error(message || `Request failed (${response.status})`);
   }
 
-  if (response.status === 204) {
+  if (response.status === 204 || response.status === 202) {
     return undefined as T;
   }
 
@@ -134,10 +134,12 @@ export const api = {
         method: "POST",
         body: JSON.stringify(payload),
       }),
-    update: (id: number, payload: ApplicationUpdateRequest) =>
+    // With a version the server rejects the edit (412) if someone else saved first.
+    update: (id: number, payload: ApplicationUpdateRequest, version?: number) =>
       request<ApplicationResponse>(`/applications/${id}`, {
         method: "PUT",
         body: JSON.stringify(payload),
+        headers: version === undefined ? undefined : { "If-Match": `"${version}"` },
       }),
     updateStage: (id: number, stage: string) =>
       request<ApplicationResponse>(`/applications/${id}/stage`, {
@@ -145,7 +147,7 @@ export const api = {
         body: JSON.stringify({ stage }),
       }),
     delete: (id: number) =>
-      request<void>(`/applications/${id}`, {
+      request<{ applicationId: number; tasksDeleted: number; stageEventsDeleted: number }>(`/applications/${id}`, {
         method: "DELETE",
       }),
   },
@@ -187,6 +189,7 @@ export type ApplicationResponse = {
   stageChangedAt?: string | null;
   createdAt: string;
   updatedAt: string;
+  version: number;
 };
 
 export type ApplicationCreateRequest = {
@@ -219,6 +222,7 @@ export type TaskResponse = {
   completedAt?: string | null;
   createdAt: string;
   updatedAt: string;
+  version: number;
 };
 
 export type TaskCreateRequest = {
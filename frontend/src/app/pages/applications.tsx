@@ -139,7 +139,8 @@ export default function Applications() {
 
   const handleSaveEdits = async (id: number, payload: ApplicationUpdateRequest) => {
     setError(null);
-    const updated = await api.applications.update(id, payload);
+    const version = applications.find((job) => job.id === id)?.version;
+    const updated = await api.applications.update(id, payload, version);
     setApplications((prev) => prev.map((job) => (job.id === updated.id ? updated : job)));
     setSelectedApplication(updated);
     return updated;
@@ -187,7 +187,8 @@ export default function Dashboard() {
 
   const handleSaveEdits = async (id: number, payload: Parameters<typeof api.applications.update>[1]) => {
     setError(null);
-    const updated = await api.applications.update(id, payload);
+    const version = applications.find((job) => job.id === id)?.version;
+    const updated = await api.applications.update(id, payload, version);
     setApplications((prev) => prev.map((job) => (job.id === updated.id ? updated : job)));
     setSelectedApplication(updated);
     return updated;